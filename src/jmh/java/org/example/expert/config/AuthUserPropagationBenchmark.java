@@ -0,0 +1,100 @@
+package org.example.expert.config;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.auth.service.TokenRevocationList;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * JwtFilter -> AuthUserArgumentResolver 구간의 AuthUser 전달 비용 비교.
+ * - legacyHandOff : userId/email/userRole 세 개의 attribute 로 나눠 담고 UserRole.of(stream) 로 다시 파싱하던 방식
+ * - handOff : 필터가 만든 AuthUser 하나를 그대로 넘기는 방식
+ * - filterToResolver : 실제 JwtFilter(캐시 적중) + AuthUserArgumentResolver 전체 경로
+ * ./gradlew jmh -PjmhIncludes=AuthUserPropagationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthUserPropagationBenchmark {
+
+	private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+	private final AuthUser authUser = new AuthUser(1L, "bench@test.com", UserRole.USER);
+
+	private final MockHttpServletRequest request = new MockHttpServletRequest();
+	private final ServletWebRequest webRequest = new ServletWebRequest(request);
+
+	private MethodParameter authUserParameter;
+	private JwtFilter jwtFilter;
+	private String bearerToken;
+
+	@Setup
+	public void setUp() throws Exception {
+		authUserParameter = new MethodParameter(
+			AuthUserPropagationBenchmark.class.getDeclaredMethod("handler", AuthUser.class), 0);
+
+		JwtUtil jwtUtil = new JwtUtil();
+		Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+		secretKey.setAccessible(true);
+		secretKey.set(jwtUtil, Base64.getEncoder().encodeToString(new byte[32]));
+		Field accessTokenTtl = JwtUtil.class.getDeclaredField("accessTokenTtl");
+		accessTokenTtl.setAccessible(true);
+		accessTokenTtl.set(jwtUtil, Duration.ofMinutes(15));
+		jwtUtil.init();
+
+		jwtFilter = new JwtFilter(jwtUtil, new JwtAuthenticationCache(jwtUtil, true, 10_000, Duration.ofMinutes(10)),
+			new TokenRevocationList(null, null));
+		bearerToken = jwtUtil.createToken(1L, "bench@test.com", UserRole.USER);
+	}
+
+	@SuppressWarnings("unused")
+	private void handler(@Auth AuthUser authUser) {
+	}
+
+	@Benchmark
+	public AuthUser legacyHandOff() {
+		request.setAttribute("userId", authUser.getId());
+		request.setAttribute("email", authUser.getEmail());
+		request.setAttribute("userRole", authUser.getUserRole().name());
+
+		Long userId = (Long)request.getAttribute("userId");
+		String email = (String)request.getAttribute("email");
+		String role = (String)request.getAttribute("userRole");
+		UserRole userRole = Arrays.stream(UserRole.values())
+			.filter(r -> r.name().equalsIgnoreCase(role))
+			.findFirst()
+			.orElseThrow();
+		return new AuthUser(userId, email, userRole);
+	}
+
+	@Benchmark
+	public Object handOff() {
+		request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, authUser);
+		return resolver.resolveArgument(authUserParameter, null, webRequest, null);
+	}
+
+	@Benchmark
+	public Object filterToResolver() throws Exception {
+		MockHttpServletRequest filteredRequest = new MockHttpServletRequest("GET", "/todos");
+		filteredRequest.addHeader("Authorization", bearerToken);
+		jwtFilter.doFilter(filteredRequest, new MockHttpServletResponse(), new MockFilterChain());
+		return resolver.resolveArgument(authUserParameter, null, new ServletWebRequest(filteredRequest), null);
+	}
+}
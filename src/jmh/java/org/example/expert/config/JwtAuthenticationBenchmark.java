@@ -0,0 +1,81 @@
+package org.example.expert.config;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JwtFilter 의 토큰 검증 비용 비교.
+ * - legacyParse : 요청마다 parserBuilder().build() 후 검증 (기존 방식)
+ * - sharedParserParse : 재사용 parser 로 매번 HMAC 검증 (캐시 비활성화)
+ * - cached : 토큰 해시 캐시 적중
+ * ./gradlew jmh -PjmhIncludes=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationBenchmark {
+
+	private JwtUtil jwtUtil;
+	private Key key;
+	private JwtAuthenticationCache uncached;
+	private JwtAuthenticationCache cached;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		jwtUtil = new JwtUtil();
+		Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+		secretKey.setAccessible(true);
+		secretKey.set(jwtUtil, Base64.getEncoder().encodeToString(new byte[32]));
+		Field accessTokenTtl = JwtUtil.class.getDeclaredField("accessTokenTtl");
+		accessTokenTtl.setAccessible(true);
+		accessTokenTtl.set(jwtUtil, Duration.ofMinutes(15));
+		jwtUtil.init();
+
+		Field keyField = JwtUtil.class.getDeclaredField("key");
+		keyField.setAccessible(true);
+		key = (Key)keyField.get(jwtUtil);
+
+		uncached = new JwtAuthenticationCache(jwtUtil, false, 10_000, Duration.ofMinutes(10));
+		cached = new JwtAuthenticationCache(jwtUtil, true, 10_000, Duration.ofMinutes(10));
+		token = jwtUtil.substringToken(jwtUtil.createToken(1L, "bench@test.com", UserRole.USER));
+		cached.authenticate(token);
+	}
+
+	@Benchmark
+	public AuthUser legacyParse() {
+		Claims claims = Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build()
+			.parseClaimsJws(token)
+			.getBody();
+		return new AuthUser(Long.parseLong(claims.getSubject()), claims.get("email", String.class),
+			UserRole.valueOf(claims.get("userRole", String.class)));
+	}
+
+	@Benchmark
+	public AuthUser sharedParserParse() {
+		return uncached.authenticate(token).authUser();
+	}
+
+	@Benchmark
+	public AuthUser cached() {
+		return cached.authenticate(token).authUser();
+	}
+}
@@ -0,0 +1,46 @@
+package org.example.expert.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+
+/**
+ * BCrypt 비용별 비밀번호 검증(로그인 1회) 지연시간. SampleTime 모드라 p50/p99 가 함께 출력되므로
+ * 로그인 p99 목표에서 해싱 풀 대기 시간을 뺀 값 안에 들어오는 가장 큰 비용을 password.bcrypt.cost 로 고른다.
+ * 코어 하나 기준 값이므로 초당 처리량은 대략 (해싱 풀 크기 / 평균 지연시간) 이다.
+ * ./gradlew jmh -PjmhIncludes=PasswordVerifyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+public class PasswordVerifyBenchmark {
+
+	@Param({"4", "8", "10", "11", "12"})
+	private int cost;
+
+	private final char[] password = "benchmark-Password1!".toCharArray();
+	private String encodedPassword;
+
+	@Setup
+	public void setUp() {
+		encodedPassword = BCrypt.withDefaults().hashToString(cost, password);
+	}
+
+	@Benchmark
+	public boolean verify() {
+		return BCrypt.verifyer().verify(password, encodedPassword).verified;
+	}
+}
@@ -0,0 +1,74 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 연속 실패 횟수 기반의 단순한 서킷 브레이커.
+ * CLOSED -> (연속 실패 failureThreshold 회) -> OPEN -> (openDuration 경과) -> HALF_OPEN -> 시험 호출 결과에 따라 CLOSED / OPEN
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final Duration openDuration;
+	private final Clock clock;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private Instant openedAt;
+	private boolean trialInFlight;
+
+	public CircuitBreaker(int failureThreshold, Duration openDuration) {
+		this(failureThreshold, openDuration, Clock.systemUTC());
+	}
+
+	public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.clock = clock;
+	}
+
+	/**
+	 * 원격 호출을 시도해도 되는지 확인합니다. HALF_OPEN 상태에서는 한 번에 하나의 시험 호출만 허용합니다.
+	 */
+	public synchronized boolean tryAcquire() {
+		if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+			state = State.HALF_OPEN;
+		}
+
+		if (state == State.HALF_OPEN) {
+			if (trialInFlight) {
+				return false;
+			}
+			trialInFlight = true;
+			return true;
+		}
+
+		return state == State.CLOSED;
+	}
+
+	public synchronized void onSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		trialInFlight = false;
+	}
+
+	public synchronized void onFailure() {
+		trialInFlight = false;
+		consecutiveFailures++;
+
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = clock.instant();
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+}
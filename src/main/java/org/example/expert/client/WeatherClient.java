@@ -1,63 +1,164 @@
 package org.example.expert.client;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 1년치 날씨 데이터를 한 번 내려받아 MM-dd 기준 Map 으로 들고 있다가, 백그라운드에서 TTL 주기로 갱신합니다.
+ * 갱신이 실패하거나 서킷이 열려 있으면 마지막으로 성공한(오래된) 데이터를 그대로 사용하므로
+ * 일정 생성 지연시간이 원격 API 상태에 영향을 받지 않습니다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
 	private final RestTemplate restTemplate;
+	private final URI weatherApiUri;
+	private final Duration ttl;
+	private final CircuitBreaker circuitBreaker;
+
+	private volatile WeatherSnapshot snapshot;
 
-	public WeatherClient(RestTemplateBuilder builder) {
-		this.restTemplate = builder.build();
+	public WeatherClient(
+		RestTemplateBuilder builder,
+		@Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+		@Value("${weather.api.timeout:PT3S}") Duration timeout,
+		@Value("${weather.cache.ttl:PT6H}") Duration ttl,
+		@Value("${weather.circuit-breaker.failure-threshold:3}") int failureThreshold,
+		@Value("${weather.circuit-breaker.open-duration:PT30S}") Duration openDuration
+	) {
+		this.restTemplate = builder
+			.setConnectTimeout(timeout)
+			.setReadTimeout(timeout)
+			.build();
+		this.weatherApiUri = buildWeatherApiUri(baseUrl);
+		this.ttl = ttl;
+		this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
 	}
 
 	public String getTodayWeather() {
+		return getWeather(LocalDate.now());
+	}
+
+	public String getWeather(LocalDate date) {
+		String weather = getWeathers().get(date.format(DATE_FORMATTER));
+
+		if (weather == null) {
+			throw new ServerException(date.format(DATE_FORMATTER) + "에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+		}
+
+		return weather;
+	}
+
+	/**
+	 * TTL 이 지났거나 아직 데이터가 없으면 원격 API 에서 다시 받아옵니다.
+	 * 실패해도 기존 데이터는 유지됩니다.
+	 */
+	@Scheduled(initialDelay = 0, fixedDelayString = "${weather.cache.refresh-interval:PT1M}")
+	public void refresh() {
+		WeatherSnapshot current = snapshot;
+		if (current != null && !current.isExpired(ttl)) {
+			return;
+		}
+
+		try {
+			load();
+		} catch (ServerException e) {
+			log.warn("날씨 데이터 갱신에 실패했습니다. 기존 데이터를 사용합니다. cause={}", e.getMessage());
+		}
+	}
+
+	public CircuitBreaker.State getCircuitState() {
+		return circuitBreaker.getState();
+	}
+
+	private Map<String, String> getWeathers() {
+		WeatherSnapshot current = snapshot;
+		if (current != null) {
+			return current.weathers();
+		}
+
+		// 기동 직후 백그라운드 로딩이 끝나기 전에 들어온 요청만 동기적으로 로딩합니다.
+		synchronized (this) {
+			if (snapshot == null) {
+				load();
+			}
+			return snapshot.weathers();
+		}
+	}
+
+	private void load() {
+		if (!circuitBreaker.tryAcquire()) {
+			throw new ServerException("날씨 API 서킷이 열려 있어 데이터를 가져올 수 없습니다.");
+		}
+
+		try {
+			snapshot = new WeatherSnapshot(fetchWeathers(), Instant.now());
+			circuitBreaker.onSuccess();
+		} catch (RuntimeException e) {
+			circuitBreaker.onFailure();
+			throw e instanceof ServerException serverException
+				? serverException
+				: new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+		}
+	}
+
+	private Map<String, String> fetchWeathers() {
 		ResponseEntity<WeatherDto[]> responseEntity =
-			restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+			restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
 		WeatherDto[] weatherArray = responseEntity.getBody();
 
 		if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
 			throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
 		}
-        
+
 		if (weatherArray == null || weatherArray.length == 0) {
 			throw new ServerException("날씨 데이터가 없습니다.");
 		}
 
-		String today = getCurrentDate();
-
+		Map<String, String> weathers = new HashMap<>(weatherArray.length * 2);
 		for (WeatherDto weatherDto : weatherArray) {
-			if (today.equals(weatherDto.getDate())) {
-				return weatherDto.getWeather();
+			if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+				weathers.put(weatherDto.getDate(), weatherDto.getWeather());
 			}
 		}
-
-		throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+		return Map.copyOf(weathers);
 	}
 
-	private URI buildWeatherApiUri() {
+	private URI buildWeatherApiUri(String baseUrl) {
 		return UriComponentsBuilder
-			.fromUriString("https://f-api.github.io")
+			.fromUriString(baseUrl)
 			.path("/f-api/weather.json")
 			.encode()
 			.build()
 			.toUri();
 	}
 
-	private String getCurrentDate() {
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-		return LocalDate.now().format(formatter);
+	private record WeatherSnapshot(Map<String, String> weathers, Instant loadedAt) {
+
+		boolean isExpired(Duration ttl) {
+			return !Instant.now().isBefore(loadedAt.plus(ttl));
+		}
 	}
 }
@@ -0,0 +1,119 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 검증이 끝난 JWT 의 AuthUser 를 토큰 해시(SHA-256) 기준으로 캐싱합니다.
+ * 같은 토큰으로 들어오는 요청은 HMAC 검증과 claims 파싱을 건너뛰고, 각 엔트리는 토큰의 exp 시점에 만료됩니다.
+ * 폐기 여부는 캐싱하지 않으므로 호출한 쪽(JwtFilter)이 반환된 tokenId 로 매번 확인합니다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<ByteBuffer, AuthenticatedToken> cache;
+
+    public JwtAuthenticationCache(
+            JwtUtil jwtUtil,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.cache.max-ttl:PT10M}") Duration maxTtl
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 액세스 토큰을 검증하고 AuthUser 와 jti 를 반환합니다. 유효하지 않은 토큰은 JwtUtil 과 동일한 예외를 던지며 캐싱되지 않습니다.
+     */
+    public AuthenticatedToken authenticate(String token) {
+        if (!enabled) {
+            return parse(token);
+        }
+
+        ByteBuffer key = hash(token);
+        AuthenticatedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AuthenticatedToken parsed = parse(token);
+        cache.put(key, parsed);
+        return parsed;
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    private AuthenticatedToken parse(String token) {
+        Claims claims = jwtUtil.extractAccessClaims(token);
+
+        AuthUser authUser = new AuthUser(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class))
+        );
+        return new AuthenticatedToken(authUser, JwtUtil.extractTokenId(claims), claims.getExpiration().getTime());
+    }
+
+    private ByteBuffer hash(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public record AuthenticatedToken(AuthUser authUser, UUID tokenId, long expiresAtMillis) {
+    }
+
+    // 토큰의 남은 유효기간과 max-ttl 중 짧은 쪽으로 만료시킵니다.
+    private record TokenExpiry(Duration maxTtl) implements Expiry<ByteBuffer, AuthenticatedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, AuthenticatedToken value, long currentTime) {
+            long remainingNanos = Duration.ofMillis(value.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtl.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, AuthenticatedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, AuthenticatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -10,6 +9,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtAuthenticationCache.AuthenticatedToken;
+import org.example.expert.domain.auth.service.TokenRevocationList;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
@@ -18,7 +20,12 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // 인증된 AuthUser 를 담는 request attribute 이름 (AuthUserArgumentResolver 가 그대로 꺼내 씁니다)
+    public static final String AUTH_USER_ATTRIBUTE = AuthUser.class.getName();
+
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -48,18 +55,19 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+            // JWT 유효성 검사 (이미 검증된 토큰은 캐시에서 꺼내옵니다)
+            AuthenticatedToken authenticatedToken = jwtAuthenticationCache.authenticate(jwt);
+
+            // 캐시에 있던 토큰이라도 로그아웃 등으로 폐기됐을 수 있으므로 매번 확인합니다.
+            if (tokenRevocationList.isRevoked(authenticatedToken.tokenId())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            AuthUser authUser = authenticatedToken.authUser();
+            UserRole userRole = authUser.getUserRole();
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
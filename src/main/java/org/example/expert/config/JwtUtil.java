@@ -1,8 +1,10 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -13,41 +15,79 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final String FAMILY_CLAIM = "family";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // 액세스 토큰은 짧게 두고, 만료되면 리프레시 토큰으로 재발급받습니다(비밀번호 해싱 없음).
+    @Value("${jwt.access-token.ttl:PT15M}")
+    private Duration accessTokenTtl;
+    @Value("${jwt.refresh-token.ttl:P14D}")
+    private Duration refreshTokenTtl;
     private Key key;
+    private JwtParser jwtParser; // 불변 객체라 스레드 간에 공유해도 안전합니다.
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
+    /**
+     * 액세스 토큰을 "Bearer " 접두사와 함께 만듭니다. 폐기할 수 있도록 토큰마다 jti(UUID)를 붙입니다.
+     */
     public String createToken(Long userId, String email, UserRole userRole) {
         Date date = new Date();
 
         return BEARER_PREFIX +
                 Jwts.builder()
+                        .setId(UUID.randomUUID().toString())
                         .setSubject(String.valueOf(userId))
+                        .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
                         .claim("email", email)
                         .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                        .setExpiration(new Date(date.getTime() + accessTokenTtl.toMillis()))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    /**
+     * 요청 본문으로 주고받는 리프레시 토큰(접두사 없음). 사용자 id 와 family 만 담고, 재발급할 때 이메일과 권한은 DB 에서 다시 읽습니다.
+     * jti 와 만료 시각은 family 에 현재 토큰으로 저장하도록 호출하는 쪽이 정합니다.
+     */
+    public String createRefreshToken(Long userId, UUID familyId, UUID tokenId, Instant expiresAt) {
+        Date date = new Date();
+
+        return Jwts.builder()
+                .setId(tokenId.toString())
+                .setSubject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_CLAIM, familyId.toString())
+                .setExpiration(Date.from(expiresAt))
+                .setIssuedAt(date)
+                .signWith(key, signatureAlgorithm)
+                .compact();
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -56,10 +96,41 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    // type 이 없는 토큰은 리프레시 토큰 도입 전에 발급된 액세스 토큰입니다.
+    public Claims extractAccessClaims(String token) {
+        Claims claims = extractClaims(token);
+        String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        if (type != null && !ACCESS_TOKEN_TYPE.equals(type)) {
+            throw new UnsupportedJwtException("액세스 토큰이 아닙니다.");
+        }
+        return claims;
+    }
+
+    public Claims extractRefreshClaims(String token) {
+        Claims claims = extractClaims(token);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("리프레시 토큰이 아닙니다.");
+        }
+        return claims;
+    }
+
+    public Instant refreshTokenExpiresAt() {
+        return Instant.now().plus(refreshTokenTtl);
+    }
+
+    // jti 가 없는(리프레시 토큰 도입 전) 토큰은 null 입니다.
+    public static UUID extractTokenId(Claims claims) {
+        return claims.getId() == null ? null : UUID.fromString(claims.getId());
+    }
+
+    // family 가 없는(family 도입 전에 발급된) 리프레시 토큰은 null 입니다.
+    public static UUID extractFamilyId(Claims claims) {
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        return familyId == null ? null : UUID.fromString(familyId);
+    }
 }
@@ -1,17 +1,64 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * BCrypt 해싱/검증. 계산은 PasswordHashingExecutor 의 전용 풀에서 실행됩니다.
+ * 새 해시는 목표 비용(password.bcrypt.cost)으로 만들고, 검증은 저장된 해시에 기록된 비용으로 합니다.
+ * 비용은 2^cost 번 반복이므로 1 올릴 때마다 해싱 시간이 약 두 배가 됩니다.
+ */
 @Component
 public class PasswordEncoder {
 
+    // BCrypt 는 72 바이트(종료 문자 포함)까지만 쓰므로, 그보다 긴 비밀번호는 잘라서 비교하지 않고 거절합니다.
+    public static final int MAX_PASSWORD_BYTES = BCrypt.Version.VERSION_2A.allowedMaxPwLength;
+
+    private final PasswordHashingExecutor hashingExecutor;
+    private final int cost;
+
+    public PasswordEncoder(
+            PasswordHashingExecutor hashingExecutor,
+            @Value("${password.bcrypt.cost:" + BCrypt.MIN_COST + "}") int cost
+    ) {
+        this.hashingExecutor = hashingExecutor;
+        this.cost = cost;
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return hashingExecutor.execute("encode",
+                () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return hashingExecutor.execute("matches",
+                () -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    public static boolean isTooLong(String rawPassword) {
+        return rawPassword.getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES;
+    }
+
+    /**
+     * 저장된 해시의 비용이 목표 비용보다 낮으면 true. 형식을 알 수 없는 해시는 다시 해싱하지 않습니다.
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return PasswordHash.parse(encodedPassword)
+                .map(hash -> hash.cost() < cost)
+                .orElse(false);
+    }
+
+    /**
+     * 해싱 풀이 놀고 있을 때만 백그라운드에서 목표 비용으로 해싱하고, 해시를 future 로 돌려줍니다.
+     * 바쁘면 빈 Optional 을 반환하고 아무것도 하지 않습니다.
+     */
+    public Optional<CompletableFuture<String>> encodeInBackground(String rawPassword) {
+        return hashingExecutor.executeIfIdle("encode.background",
+                () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 }
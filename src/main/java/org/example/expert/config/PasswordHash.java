@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import at.favre.lib.crypto.bcrypt.IllegalBCryptFormatException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 저장된 BCrypt 해시("$2a$10$...")의 버전과 비용. 검증은 해시에 기록된 비용으로 하므로
+ * 비용이 다른 해시가 섞여 있어도 모두 검증할 수 있고, 목표 비용보다 낮은 해시만 골라 다시 해싱할 수 있습니다.
+ */
+public record PasswordHash(String version, int cost) {
+
+    public static Optional<PasswordHash> parse(String encodedPassword) {
+        if (encodedPassword == null) {
+            return Optional.empty();
+        }
+        try {
+            BCrypt.HashData hashData = BCrypt.Version.VERSION_2A.parser
+                    .parse(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            return Optional.of(new PasswordHash(
+                    new String(hashData.version.versionIdentifier, StandardCharsets.US_ASCII),
+                    hashData.cost
+            ));
+        } catch (IllegalBCryptFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.metrics.service.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 처럼 CPU 를 오래 쓰는 비밀번호 해싱을 요청 스레드 대신 전용 스레드 풀에서 실행합니다.
+ * <p>
+ * 동시에 해싱하는 스레드는 pool-size 개(기본 CPU 코어 수)로 제한되어 로그인이 몰려도 다른 API 의 CPU 를 빼앗지 않습니다.
+ * 대기열이 queue-capacity 를 넘거나 timeout 안에 결과를 받지 못하면 TooManyRequestsException(429)으로 바로 거절합니다.
+ * 작업별 실행 시간은 "password.{operation}", 대기열에서 기다린 시간은 "password.{operation}.queue-wait" 타이머에 기록됩니다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String REJECTED_MESSAGE = "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final MetricsRegistry metricsRegistry;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+
+    public PasswordHashingExecutor(
+            MetricsRegistry metricsRegistry,
+            @Value("${password.hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+            @Value("${password.hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${password.hashing.timeout:PT2S}") Duration timeout
+    ) {
+        this.metricsRegistry = metricsRegistry;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 작업을 해싱 풀에서 실행하고 결과를 기다립니다. 요청 스레드는 기다리는 동안 CPU 를 쓰지 않습니다.
+     */
+    public <T> T execute(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                metricsRegistry.record("password." + operation + ".queue-wait", startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    metricsRegistry.record("password." + operation, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new TooManyRequestsException(REJECTED_MESSAGE);
+        }
+
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있으면 빠지고, 이미 계산 중인 작업은 끝까지 실행된 뒤 버려집니다.
+            future.cancel(false);
+            timedOutCount.incrementAndGet();
+            throw new TooManyRequestsException(REJECTED_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 노는 해싱 스레드가 있고 대기열이 비어 있을 때만 작업을 넘기고, 결과는 기다리지 않고 future 로 돌려줍니다.
+     * 모든 스레드가 계산 중이면 다음 로그인 요청이 대기열에서 기다리게 되므로 빈 Optional 을 반환합니다.
+     */
+    public <T> Optional<CompletableFuture<T>> executeIfIdle(String operation, Supplier<T> task) {
+        if (executor.getActiveCount() >= executor.getMaximumPoolSize() || !executor.getQueue().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    metricsRegistry.record("password." + operation, System.nanoTime() - startedAt);
+                }
+            }, executor));
+        } catch (RejectedExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
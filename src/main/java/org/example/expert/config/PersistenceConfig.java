@@ -1,9 +1,40 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.entity.PooledIdGenerator;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 우선합니다.
+    // INSERT/UPDATE 를 엔티티 종류별로 정렬해야 일정과 담당자처럼 섞여 flush 되는 문장도 같은 배치로 묶입니다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${persistence.jdbc.batch-size:50}") int batchSize
+    ) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // 모든 엔티티의 @PooledId 가 이 설정을 따릅니다. allocation-size 를 바꾸면 기존 시퀀스의 증가값도 함께 맞춰야 합니다.
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationCustomizer(
+            @Value("${persistence.id.strategy:sequence}") String strategy,
+            @Value("${persistence.id.allocation-size:50}") int allocationSize
+    ) {
+        return properties -> {
+            properties.putIfAbsent(PooledIdGenerator.STRATEGY_SETTING, strategy);
+            properties.putIfAbsent(PooledIdGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+        };
+    }
 }
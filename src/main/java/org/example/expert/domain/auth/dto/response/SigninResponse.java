@@ -7,9 +7,13 @@ import lombok.ToString;
 @Getter
 public class SigninResponse {
 
+	@ToString.Exclude
 	private final String bearerToken;
+	@ToString.Exclude
+	private final String refreshToken;
 
-	public SigninResponse(String bearerToken) {
+	public SigninResponse(String bearerToken, String refreshToken) {
 		this.bearerToken = bearerToken;
+		this.refreshToken = refreshToken;
 	}
 }
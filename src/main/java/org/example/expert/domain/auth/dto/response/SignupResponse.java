@@ -7,9 +7,13 @@ import lombok.ToString;
 @Getter
 public class SignupResponse {
 
+	@ToString.Exclude
 	private final String bearerToken;
+	@ToString.Exclude
+	private final String refreshToken;
 
-	public SignupResponse(String bearerToken) {
+	public SignupResponse(String bearerToken, String refreshToken) {
 		this.bearerToken = bearerToken;
+		this.refreshToken = refreshToken;
 	}
 }
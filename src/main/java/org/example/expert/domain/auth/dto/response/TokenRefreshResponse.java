@@ -0,0 +1,19 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class TokenRefreshResponse {
+
+	@ToString.Exclude
+	private final String bearerToken;
+	@ToString.Exclude
+	private final String refreshToken;
+
+	public TokenRefreshResponse(String bearerToken, String refreshToken) {
+		this.bearerToken = bearerToken;
+		this.refreshToken = refreshToken;
+	}
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 로그인 한 번에서 이어지는 리프레시 토큰들(family)과 지금 쓸 수 있는 토큰의 jti. 재발급할 때마다 currentTokenId 만 바꾸므로
+ * 로그인 세션당 한 행입니다. 만료 시각은 마지막으로 발급한 리프레시 토큰의 만료 시각이며, 지나면 주기적으로 지웁니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "refresh_token_families", indexes = {
+    @Index(name = "idx_refresh_token_families_expires_at", columnList = "expires_at")
+})
+public class RefreshTokenFamily {
+
+    @Id
+    private UUID id;
+    private UUID currentTokenId;
+    private Instant expiresAt;
+
+    public RefreshTokenFamily(UUID id, UUID currentTokenId, Instant expiresAt) {
+        this.id = id;
+        this.currentTokenId = currentTokenId;
+        this.expiresAt = expiresAt;
+    }
+}
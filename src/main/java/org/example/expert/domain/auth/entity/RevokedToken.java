@@ -0,0 +1,32 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 로그아웃으로 폐기된 액세스 토큰(과 family 도입 전에 발급된 리프레시 토큰)의 jti. 토큰이 만료되면 더 이상 막을 필요가 없으므로 만료 시각과 함께 저장하고 주기적으로 지웁니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "revoked_tokens", indexes = {
+    @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+
+    @Id
+    private UUID id;
+    private Instant expiresAt;
+
+    public RevokedToken(UUID id, Instant expiresAt) {
+        this.id = id;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, UUID> {
+
+    // 제시한 토큰이 아직 현재 토큰일 때만 바꿉니다. 0 이면 이미 쓴 토큰이거나 로그아웃된 family 입니다.
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.currentTokenId = :nextTokenId, f.expiresAt = :expiresAt "
+            + "WHERE f.id = :id AND f.currentTokenId = :currentTokenId")
+    int rotate(@Param("id") UUID id, @Param("currentTokenId") UUID currentTokenId,
+               @Param("nextTokenId") UUID nextTokenId, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.id = :id")
+    int deleteFamily(@Param("id") UUID id);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
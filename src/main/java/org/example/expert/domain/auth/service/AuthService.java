@@ -1,19 +1,28 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -22,11 +31,20 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordUpgrader passwordUpgrader;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenRotation refreshTokenRotation;
 
-    @Transactional
+    // 해싱은 풀에서 최대 수 초를 기다릴 수 있어 트랜잭션을 열지 않습니다. 조회와 INSERT 는 각각 리포지토리의 짧은 트랜잭션입니다.
     public SignupResponse signup(SignupRequest signupRequest) {
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // 필터가 확실히 없다고 하면 조회 없이 진행합니다. 조회 뒤 동시에 가입한 경우는 아래 unique 제약 위반으로 걸러집니다.
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())) {
+            boolean exists = userRepository.existsByEmail(signupRequest.getEmail());
+            emailBloomFilter.recordLookup(exists);
+            if (exists) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -39,14 +57,22 @@ public class AuthService {
                 userRole
         );
 
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            // 제약 위반을 여기서 받기 위해 saveAndFlush 의 트랜잭션 안에서 INSERT 를 보냅니다.
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        emailBloomFilter.put(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String refreshToken = refreshTokenRotation.issue(savedUser.getId());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
-    @Transactional(readOnly = true)
+    // signup 과 같은 이유로 트랜잭션 없이 사용자를 읽고 검증합니다. 조회가 끝나면 커넥션을 바로 반납합니다.
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -56,8 +82,60 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        passwordUpgrader.upgradeIfNeeded(user.getId(), signinRequest.getPassword(), user.getPassword());
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenRotation.issue(user.getId());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스/리프레시 토큰을 새로 발급합니다. 비밀번호 해싱 없이 서명 검증과 PK 조회만 합니다.
+     * 리프레시 토큰은 family 의 현재 토큰일 때만 다음 토큰으로 바뀌므로(rotation) 같은 토큰으로는 한 번만 재발급할 수 있습니다.
+     * 재사용을 감지해 family 를 지운 결과가 예외로 롤백되지 않도록 트랜잭션을 열지 않습니다.
+     */
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        Claims claims = extractRefreshClaims(tokenRefreshRequest.getRefreshToken());
+        String refreshToken = refreshTokenRotation.rotate(claims);
+
+        // 권한이 바뀌었을 수 있으므로 토큰이 아니라 DB 의 이메일과 권한으로 발급합니다.
+        User user = userRepository.findById(Long.parseLong(claims.getSubject())).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
-        return new SigninResponse(bearerToken);
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰의 family 와, 함께 보낸 경우 액세스 토큰을 폐기합니다. 이미 만료됐거나 유효하지 않은 액세스 토큰은 무시합니다.
+     */
+    @Transactional
+    public void logout(String bearerToken, TokenRefreshRequest tokenRefreshRequest) {
+        refreshTokenRotation.revoke(extractRefreshClaims(tokenRefreshRequest.getRefreshToken()));
+
+        if (StringUtils.hasText(bearerToken)) {
+            try {
+                revoke(jwtUtil.extractAccessClaims(jwtUtil.substringToken(bearerToken)));
+            } catch (JwtException | IllegalArgumentException | ServerException e) {
+                // 이미 쓸 수 없는 토큰이므로 폐기할 필요가 없습니다.
+            }
+        }
+    }
+
+    private Claims extractRefreshClaims(String refreshToken) {
+        try {
+            return jwtUtil.extractRefreshClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+    }
+
+    private void revoke(Claims claims) {
+        UUID tokenId = JwtUtil.extractTokenId(claims);
+        if (tokenId != null) {
+            tokenRevocationList.revoke(tokenId, claims.getExpiration().toInstant());
+        }
     }
 }
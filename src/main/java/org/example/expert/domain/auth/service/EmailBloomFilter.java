@@ -0,0 +1,174 @@
+package org.example.expert.domain.auth.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 이메일(소문자로 정규화)의 블룸 필터. 회원가입 시 "확실히 없는 이메일"이면 existsByEmail 조회를 건너뜁니다.
+ * <p>
+ * 시작할 때 users 테이블 전체를 읽어 채우고, 가입할 때마다 추가합니다. 삭제는 지원하지 않으므로 지워진 이메일은 오탐으로만 남습니다.
+ * 비트 배열은 AtomicLongArray 라서 락 없이 읽고 쓰며, 필터가 "있을 수 있음"이라고 했는데 DB 에 없던 비율을
+ * auth.email-filter.false-positive-rate 게이지로 보고합니다.
+ * 필터와 사전 조회는 최적화일 뿐이고, 동시 가입 경합은 이메일 unique 제약 위반으로 판정합니다.
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+	private final UserRepository userRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final long bitCount;
+	private final int hashCount;
+	private final AtomicLongArray bits;
+
+	private final AtomicLong setBitCount = new AtomicLong();
+	private final AtomicLong insertedCount = new AtomicLong();
+	private final AtomicLong definitelyNewCount = new AtomicLong();
+	private final AtomicLong falsePositiveCount = new AtomicLong();
+	private final AtomicLong truePositiveCount = new AtomicLong();
+
+	private volatile boolean ready;
+
+	public EmailBloomFilter(
+		UserRepository userRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${auth.email-filter.enabled:true}") boolean enabled,
+		@Value("${auth.email-filter.expected-insertions:1000000}") long expectedInsertions,
+		@Value("${auth.email-filter.false-positive-probability:0.01}") double falsePositiveProbability
+	) {
+		this.userRepository = userRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.enabled = enabled;
+
+		// m = -n ln p / (ln 2)^2, k = m / n * ln 2 (64 비트 단위로 올림)
+		long optimalBits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		int words = (int)Math.max(1, (optimalBits + 63) / 64);
+		this.bitCount = (long)words * 64;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitCount / expectedInsertions * Math.log(2)));
+		this.bits = new AtomicLongArray(words);
+	}
+
+	@PostConstruct
+	public void load() {
+		if (!enabled) {
+			return;
+		}
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<String> emails = userRepository.streamAllEmails()) {
+				emails.forEach(this::put);
+			}
+		});
+		ready = true;
+		log.info("가입 이메일 필터를 만들었습니다. emails={}, bits={}, hashes={}", insertedCount.get(), bitCount, hashCount);
+	}
+
+	/**
+	 * false 면 확실히 가입되지 않은 이메일입니다. 필터가 꺼져 있거나 아직 만들어지지 않았으면 항상 true 입니다.
+	 */
+	public boolean mightContain(String email) {
+		if (!ready) {
+			return true;
+		}
+		long hash1 = hash(email);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				definitelyNewCount.incrementAndGet();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * mightContain 이 true 였던 이메일을 DB 에서 확인한 결과를 기록합니다. 없었다면 오탐입니다.
+	 */
+	public void recordLookup(boolean exists) {
+		if (!ready) {
+			return;
+		}
+		(exists ? truePositiveCount : falsePositiveCount).incrementAndGet();
+	}
+
+	public void put(String email) {
+		if (!enabled) {
+			return;
+		}
+		long hash1 = hash(email);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitCount);
+			int word = (int)(index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+			if ((current & mask) == 0) {
+				setBitCount.incrementAndGet();
+			}
+		}
+		insertedCount.incrementAndGet();
+	}
+
+	// 실제로 DB 에 없던 이메일 중 필터가 "있을 수 있음"이라고 답한 비율
+	public double getFalsePositiveRate() {
+		long falsePositives = falsePositiveCount.get();
+		long negatives = falsePositives + definitelyNewCount.get();
+		return negatives == 0 ? 0.0 : (double)falsePositives / negatives;
+	}
+
+	// 현재 채워진 비트 비율로 계산한 이론상 오탐률 (채운 비율 ^ k)
+	public double getExpectedFalsePositiveRate() {
+		return Math.pow((double)setBitCount.get() / bitCount, hashCount);
+	}
+
+	public long getInsertedCount() {
+		return insertedCount.get();
+	}
+
+	public long getSkippedLookupCount() {
+		return definitelyNewCount.get();
+	}
+
+	public long getFalsePositiveCount() {
+		return falsePositiveCount.get();
+	}
+
+	private static long hash(String email) {
+		// 대소문자만 다른 이메일도 같은 비트를 쓰도록 소문자로 해싱합니다. 필터가 더 보수적으로 답할 뿐 틀리지 않습니다.
+		String normalized = email.toLowerCase(Locale.ROOT);
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < normalized.length(); i++) {
+			hash = (hash ^ normalized.charAt(i)) * 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	// MurmurHash3 fmix64
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
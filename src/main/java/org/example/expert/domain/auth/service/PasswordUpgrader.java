@@ -0,0 +1,103 @@
+package org.example.expert.domain.auth.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인에 성공했을 때 저장된 해시의 비용이 목표(password.bcrypt.cost)보다 낮으면 백그라운드에서 다시 해싱합니다.
+ * <p>
+ * 평문 비밀번호는 로그인 순간에만 알 수 있으므로 이때 바꾸며, 로그인 응답은 기다리지 않습니다.
+ * 해싱 풀에 대기 중인 요청이 있으면 건너뛰고 다음 로그인에서 다시 시도합니다.
+ * 저장은 읽었던 해시와 같을 때만 바꾸는 조건부 UPDATE 라서, 그 사이 비밀번호가 변경됐다면 덮어쓰지 않습니다.
+ * UPDATE 는 해싱 스레드가 DB 응답을 기다리며 로그인 해싱을 막지 않도록 별도 스레드(password-upgrade)에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class PasswordUpgrader {
+
+	private final UserRepository userRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final TransactionTemplate transactionTemplate;
+	private final ExecutorService updateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "password-upgrade");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final AtomicLong upgradedCount = new AtomicLong();
+	private final AtomicLong skippedCount = new AtomicLong();
+	private final AtomicLong conflictCount = new AtomicLong();
+
+	public PasswordUpgrader(
+		UserRepository userRepository,
+		PasswordEncoder passwordEncoder,
+		PlatformTransactionManager transactionManager
+	) {
+		this.userRepository = userRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	public void upgradeIfNeeded(long userId, String rawPassword, String currentHash) {
+		if (!passwordEncoder.needsUpgrade(currentHash)) {
+			return;
+		}
+
+		Optional<CompletableFuture<String>> upgradedHash = passwordEncoder.encodeInBackground(rawPassword);
+		if (upgradedHash.isEmpty()) {
+			skippedCount.incrementAndGet();
+			return;
+		}
+		upgradedHash.get()
+			.thenAcceptAsync(hash -> replace(userId, currentHash, hash), updateExecutor)
+			.exceptionally(e -> {
+				log.warn("비밀번호 해시 업그레이드에 실패했습니다. 다음 로그인에서 다시 시도합니다. userId={}, cause={}",
+					userId, e.getMessage());
+				return null;
+			});
+	}
+
+	public long getUpgradedCount() {
+		return upgradedCount.get();
+	}
+
+	public long getSkippedCount() {
+		return skippedCount.get();
+	}
+
+	public long getConflictCount() {
+		return conflictCount.get();
+	}
+
+	// 이미 넘겨받은 UPDATE 는 마치고 종료합니다.
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		updateExecutor.shutdown();
+		if (!updateExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+			updateExecutor.shutdownNow();
+		}
+	}
+
+	private void replace(long userId, String currentHash, String upgradedHash) {
+		Integer updated = transactionTemplate.execute(
+			status -> userRepository.updatePasswordIfUnchanged(userId, currentHash, upgradedHash));
+		if (updated != null && updated > 0) {
+			upgradedCount.incrementAndGet();
+		} else {
+			conflictCount.incrementAndGet();
+		}
+	}
+}
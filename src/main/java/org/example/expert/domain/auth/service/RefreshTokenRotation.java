@@ -0,0 +1,109 @@
+package org.example.expert.domain.auth.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.RefreshTokenFamily;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenFamilyRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 rotation. 로그인마다 family 를 하나 만들고 그 family 의 현재 토큰 jti 만 저장합니다.
+ * 재발급은 현재 토큰일 때만 다음 토큰으로 바꾸므로, 쓴 토큰을 폐기 목록에 쌓지 않아도 한 번만 쓸 수 있습니다.
+ * <p>
+ * 이미 바뀐 토큰이 다시 오면 탈취된 토큰이 재사용된 것으로 보고 family 를 지워 이어서 발급된 토큰까지 모두 막습니다.
+ * 같은 토큰으로 동시에 재발급해도 한 요청만 바꾸고 나머지는 재사용으로 처리되어 다시 로그인해야 합니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenRotation {
+
+	private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+	private final TokenRevocationList tokenRevocationList;
+	private final JwtUtil jwtUtil;
+	private final TransactionTemplate transactionTemplate;
+
+	public RefreshTokenRotation(
+		RefreshTokenFamilyRepository refreshTokenFamilyRepository,
+		TokenRevocationList tokenRevocationList,
+		JwtUtil jwtUtil,
+		PlatformTransactionManager transactionManager
+	) {
+		this.refreshTokenFamilyRepository = refreshTokenFamilyRepository;
+		this.tokenRevocationList = tokenRevocationList;
+		this.jwtUtil = jwtUtil;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 새 family 를 만들고 첫 리프레시 토큰을 발급합니다.
+	 */
+	public String issue(Long userId) {
+		UUID familyId = UUID.randomUUID();
+		UUID tokenId = UUID.randomUUID();
+		Instant expiresAt = jwtUtil.refreshTokenExpiresAt();
+		refreshTokenFamilyRepository.save(new RefreshTokenFamily(familyId, tokenId, expiresAt));
+		return jwtUtil.createRefreshToken(userId, familyId, tokenId, expiresAt);
+	}
+
+	/**
+	 * 제시한 리프레시 토큰이 family 의 현재 토큰이면 다음 토큰으로 바꿔 발급합니다. 아니면 family 를 지우고 AuthException 을 던집니다.
+	 * 지운 결과가 롤백되지 않도록 트랜잭션 안에서 호출하지 않습니다.
+	 */
+	public String rotate(Claims claims) {
+		UUID tokenId = JwtUtil.extractTokenId(claims);
+		UUID familyId = JwtUtil.extractFamilyId(claims);
+		Long userId = Long.parseLong(claims.getSubject());
+		if (tokenId == null) {
+			throw new AuthException("폐기된 리프레시 토큰입니다.");
+		}
+		if (familyId == null) {
+			// family 도입 전에 발급된 토큰은 만료될 때까지 한 번만 폐기 목록으로 막고 새 family 로 옮깁니다.
+			if (!tokenRevocationList.revoke(tokenId, claims.getExpiration().toInstant())) {
+				throw new AuthException("폐기된 리프레시 토큰입니다.");
+			}
+			return issue(userId);
+		}
+
+		UUID nextTokenId = UUID.randomUUID();
+		Instant expiresAt = jwtUtil.refreshTokenExpiresAt();
+		Integer rotated = transactionTemplate.execute(status ->
+			refreshTokenFamilyRepository.rotate(familyId, tokenId, nextTokenId, expiresAt));
+		if (rotated == null || rotated == 0) {
+			transactionTemplate.executeWithoutResult(status -> refreshTokenFamilyRepository.deleteFamily(familyId));
+			log.warn("이미 쓴 리프레시 토큰이 다시 사용되어 family 를 폐기했습니다. userId={}, familyId={}", userId, familyId);
+			throw new AuthException("폐기된 리프레시 토큰입니다.");
+		}
+		return jwtUtil.createRefreshToken(userId, familyId, nextTokenId, expiresAt);
+	}
+
+	/**
+	 * 로그아웃. family 를 지워 이 토큰과 이후 발급될 토큰을 모두 막습니다.
+	 */
+	public void revoke(Claims claims) {
+		UUID familyId = JwtUtil.extractFamilyId(claims);
+		if (familyId != null) {
+			transactionTemplate.executeWithoutResult(status -> refreshTokenFamilyRepository.deleteFamily(familyId));
+			return;
+		}
+		UUID tokenId = JwtUtil.extractTokenId(claims);
+		if (tokenId != null) {
+			tokenRevocationList.revoke(tokenId, claims.getExpiration().toInstant());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT10M}")
+	public void purgeExpired() {
+		Integer deleted = transactionTemplate.execute(status ->
+			refreshTokenFamilyRepository.deleteExpired(Instant.now()));
+		log.debug("만료된 리프레시 토큰 family 를 지웠습니다. deleted={}", deleted);
+	}
+}
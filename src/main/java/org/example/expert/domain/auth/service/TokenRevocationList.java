@@ -0,0 +1,91 @@
+package org.example.expert.domain.auth.service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 명시적으로 폐기된 토큰의 jti 집합. 재발급으로 바뀐 리프레시 토큰은 RefreshTokenRotation 이 family 단위로 막으므로 담지 않습니다.
+ * JwtFilter 가 매 요청마다 확인하므로 메모리의 ConcurrentHashMap 에서 락 없이 O(1)로 조회합니다.
+ * <p>
+ * 폐기할 때 revoked_tokens 테이블에도 저장하고 시작할 때 만료되지 않은 것만 다시 읽어, 재시작해도 폐기가 유지됩니다.
+ * 토큰이 만료된 뒤에는 서명 검증에서 걸러지므로 purge-interval 마다 메모리와 테이블에서 함께 지웁니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	// jti -> 토큰 만료 시각(epoch millis)
+	private final Map<UUID, Long> revoked = new ConcurrentHashMap<>();
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	public TokenRevocationList(
+		RevokedTokenRepository revokedTokenRepository,
+		PlatformTransactionManager transactionManager
+	) {
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@PostConstruct
+	public void load() {
+		for (RevokedToken token : revokedTokenRepository.findAllByExpiresAtAfter(Instant.now())) {
+			revoked.put(token.getId(), token.getExpiresAt().toEpochMilli());
+		}
+		log.info("폐기된 토큰 목록을 읽었습니다. size={}", revoked.size());
+	}
+
+	/**
+	 * jti 가 없는 토큰(리프레시 토큰 도입 전 발급)은 폐기할 수 없으므로 false 입니다.
+	 */
+	public boolean isRevoked(UUID tokenId) {
+		if (tokenId == null || !revoked.containsKey(tokenId)) {
+			return false;
+		}
+		rejectedCount.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * 토큰을 폐기하고 저장합니다. 이미 폐기된 토큰이면 false 를 반환하므로, 같은 리프레시 토큰으로 동시에 재발급하면 한 요청만 성공합니다.
+	 * 호출한 쪽의 트랜잭션에 참여하며, 롤백되더라도 메모리에서는 폐기된 채로 남습니다(더 엄격한 쪽으로만 어긋남).
+	 */
+	public boolean revoke(UUID tokenId, Instant expiresAt) {
+		if (revoked.putIfAbsent(tokenId, expiresAt.toEpochMilli()) != null) {
+			return false;
+		}
+		revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+		return true;
+	}
+
+	@Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT10M}")
+	public void purgeExpired() {
+		Instant now = Instant.now();
+		revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= now.toEpochMilli());
+		Integer deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(now));
+		log.debug("만료된 폐기 토큰을 지웠습니다. deleted={}", deleted);
+	}
+
+	public long getSize() {
+		return revoked.size();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+}
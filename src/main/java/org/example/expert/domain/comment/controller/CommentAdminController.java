@@ -1,9 +1,18 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentBulkDeleteService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -11,9 +20,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
+    private final CommentBulkDeleteService commentBulkDeleteService;
 
     @DeleteMapping("/admin/comments/{commentId}")
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    // 삭제는 백그라운드에서 진행되므로 202 와 작업 id 를 돌려주고, 진행 상황은 작업 조회 API 로 확인합니다.
+    @PostMapping("/admin/comments/bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(
+            @Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(commentBulkDeleteService.start(commentBulkDeleteRequest));
+    }
+
+    @GetMapping("/admin/comments/bulk-delete/{jobId}")
+    public ResponseEntity<CommentBulkDeleteResponse> getBulkDeleteJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(commentBulkDeleteService.getJob(jobId));
+    }
 }
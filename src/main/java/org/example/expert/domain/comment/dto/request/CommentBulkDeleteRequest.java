@@ -0,0 +1,33 @@
+package org.example.expert.domain.comment.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 관리자 댓글 일괄 삭제 조건. 주어진 조건은 모두 AND 로 적용되며, 적어도 하나는 있어야 합니다.
+ * 기간은 작성일 기준 [from, to) 입니다.
+ */
+@ToString
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest {
+
+	private Long userId;
+	private Long todoId;
+	@Size(max = 10000, message = "한 번에 지정할 수 있는 댓글 id 는 최대 10,000개입니다.")
+	private List<Long> commentIds;
+	private LocalDateTime from;
+	private LocalDateTime to;
+
+	public boolean hasCondition() {
+		return userId != null || todoId != null || (commentIds != null && !commentIds.isEmpty())
+			|| from != null || to != null;
+	}
+}
@@ -1,9 +1,11 @@
 package org.example.expert.domain.comment.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.comment.entity.Comment;
 
 @Getter
 @NoArgsConstructor
@@ -11,5 +13,6 @@ import lombok.NoArgsConstructor;
 public class CommentSaveRequest {
 
     @NotBlank
+    @Size(max = Comment.MAX_CONTENTS_LENGTH)
     private String contents;
 }
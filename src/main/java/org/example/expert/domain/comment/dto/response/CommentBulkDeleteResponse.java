@@ -0,0 +1,32 @@
+package org.example.expert.domain.comment.dto.response;
+
+import java.time.LocalDateTime;
+
+import org.example.expert.domain.comment.enums.BulkDeleteStatus;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class CommentBulkDeleteResponse {
+
+	private final String jobId;
+	private final BulkDeleteStatus status;
+	private final long deletedCount;
+	private final long chunkCount;
+	private final LocalDateTime startedAt;
+	private final LocalDateTime finishedAt;
+	private final String failureMessage;
+
+	public CommentBulkDeleteResponse(String jobId, BulkDeleteStatus status, long deletedCount, long chunkCount,
+		LocalDateTime startedAt, LocalDateTime finishedAt, String failureMessage) {
+		this.jobId = jobId;
+		this.status = status;
+		this.deletedCount = deletedCount;
+		this.chunkCount = chunkCount;
+		this.startedAt = startedAt;
+		this.finishedAt = finishedAt;
+		this.failureMessage = failureMessage;
+	}
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 여러 일정의 댓글을 한 번에 읽을 때 어느 일정의 댓글인지 함께 받는 projection 입니다.
+@Getter
+public class TodoCommentResponse {
+
+    private final Long todoId;
+    private final CommentResponse comment;
+
+    public TodoCommentResponse(Long todoId, Long id, String contents, Long userId, String email,
+                               LocalDateTime createdAt) {
+        this.todoId = todoId;
+        this.comment = new CommentResponse(id, contents, userId, email, createdAt);
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.comment.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.PooledId;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
@@ -10,11 +11,18 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_todo_id_created_at_id", columnList = "todo_id, created_at, id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final int MAX_CONTENTS_LENGTH = 255;
+
+    // 쓰기 지연 큐의 JDBC 배치 INSERT 도 같은 생성기에서 id 를 받습니다(CommentWriteBehindQueue).
+    @Id
+    @PooledId("comments_seq")
     private Long id;
+    @Column(length = MAX_CONTENTS_LENGTH)
     private String contents;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,33 @@
+package org.example.expert.domain.comment.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쓰기 지연(write-behind) 댓글 큐에서 DB 에 반영된 마지막 시퀀스.
+ * 댓글 배치 INSERT 와 같은 트랜잭션에서 갱신되므로, 재시작 시 이 값 이후의 큐 레코드만 다시 반영합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "comment_ingest_checkpoints")
+public class CommentIngestCheckpoint {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+    private long lastSequence;
+
+    public CommentIngestCheckpoint(long lastSequence) {
+        this.id = SINGLETON_ID;
+        this.lastSequence = lastSequence;
+    }
+
+    public void advanceTo(long sequence) {
+        this.lastSequence = Math.max(lastSequence, sequence);
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.expert.domain.comment.enums;
+
+public enum BulkDeleteStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,13 @@
+package org.example.expert.domain.comment.repository;
+
+import java.util.List;
+
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+
+public interface CommentBulkDeleteRepository {
+
+	/**
+	 * 조건에 맞는 댓글 id 를 afterId 다음부터 id 순으로 limit 건 조회합니다.
+	 */
+	List<Long> findIdsToDelete(CommentBulkDeleteRequest condition, long afterId, int limit);
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.comment.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.entity.Comment;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건 조합마다 쿼리를 선언할 수 없어 Criteria API 로 WHERE 절을 조립합니다.
+ * id 만 읽으므로 댓글 엔티티는 만들지 않습니다.
+ */
+@RequiredArgsConstructor
+public class CommentBulkDeleteRepositoryImpl implements CommentBulkDeleteRepository {
+
+	private final EntityManager entityManager;
+
+	@Override
+	public List<Long> findIdsToDelete(CommentBulkDeleteRequest condition, long afterId, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Comment> comment = query.from(Comment.class);
+
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(cb.greaterThan(comment.get("id"), afterId));
+		if (condition.getUserId() != null) {
+			predicates.add(cb.equal(comment.get("user").get("id"), condition.getUserId()));
+		}
+		if (condition.getTodoId() != null) {
+			predicates.add(cb.equal(comment.get("todo").get("id"), condition.getTodoId()));
+		}
+		if (condition.getCommentIds() != null && !condition.getCommentIds().isEmpty()) {
+			predicates.add(comment.get("id").in(condition.getCommentIds()));
+		}
+		if (condition.getFrom() != null) {
+			predicates.add(cb.greaterThanOrEqualTo(comment.get("createdAt"), condition.getFrom()));
+		}
+		if (condition.getTo() != null) {
+			predicates.add(cb.lessThan(comment.get("createdAt"), condition.getTo()));
+		}
+
+		query.select(comment.get("id"))
+			.where(predicates.toArray(Predicate[]::new))
+			.orderBy(cb.asc(comment.get("id")));
+
+		return entityManager.createQuery(query)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+}
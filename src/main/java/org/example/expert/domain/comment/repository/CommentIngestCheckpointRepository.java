@@ -0,0 +1,7 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.entity.CommentIngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CommentIngestCheckpointRepository extends JpaRepository<CommentIngestCheckpoint, Long> {
+}
@@ -1,14 +1,83 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.TodoCommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentBulkDeleteRepository {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 내보내기용 - 여러 일정의 댓글을 (todo_id, id) 순서의 커서로 읽어 일정별로 차례로 소비합니다. 엔티티를 만들지 않습니다.
+    // 트랜잭션 안에서 호출하고 다 쓰면 닫아야 합니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.TodoCommentResponse(c.todo.id, c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id IN :todoIds " +
+            "ORDER BY c.todo.id, c.id")
+    Stream<TodoCommentResponse> streamResponsesByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // (todo_id, created_at, id) 인덱스 순서대로 읽고 DTO 로 바로 projection 해서 엔티티를 만들지 않습니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findFirstPageByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "AND c.createdAt >= :createdAt " +
+            "AND (c.createdAt > :createdAt OR c.id > :id) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findNextPageByTodoId(
+            @Param("todoId") Long todoId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :id")
+    Optional<Long> findTodoIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    int deleteCommentById(@Param("id") Long id);
+
+    // 삭제할 댓글 행을 잠가 두어야 같은 댓글을 지우는 다른 요청과 겹쳐도 카운터를 정확히 줄일 수 있습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id IN :ids")
+    List<Long> findTodoIdsByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 일정 삭제용 - 댓글 엔티티를 읽지 않고 (todo_id, ...) 인덱스로 한 번에 지웁니다.
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoIdInBulk(@Param("todoId") Long todoId);
 }
@@ -2,6 +2,8 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +12,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TodoCache todoCache;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        Long todoId = commentRepository.findTodoIdById(commentId).orElse(null);
+        if (todoId == null) {
+            return;
+        }
+
+        // 동시에 같은 댓글을 지운 요청이 있으면 실제로 지워진 행 수만큼만 카운터를 줄입니다.
+        int deletedCount = commentRepository.deleteCommentById(commentId);
+        if (deletedCount > 0) {
+            todoRepository.addCommentCount(todoId, -deletedCount);
+            todoCache.evict(todoId);
+        }
     }
 }
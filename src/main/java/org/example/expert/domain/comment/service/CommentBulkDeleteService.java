@@ -0,0 +1,211 @@
+package org.example.expert.domain.comment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.enums.BulkDeleteStatus;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 댓글 일괄 삭제. 요청은 작업 id 를 바로 돌려주고, 삭제는 백그라운드 스레드가 진행합니다.
+ * <p>
+ * 조건에 맞는 댓글 id 를 chunk-size 건씩 id 순 keyset 으로 읽고, chunk 마다 짧은 트랜잭션에서
+ * 행 잠금 → 벌크 DELETE → 일정별 댓글 수 카운터 감소를 합니다. 한 번에 잠그는 행이 chunk 크기로 제한되고
+ * chunk 사이에 chunk-pause 만큼 쉬므로, 대량 삭제 중에도 일반 댓글 쓰기가 오래 막히지 않습니다.
+ * 작업은 한 번에 하나씩 순서대로 실행되며, 진행 중인 작업은 만료되지 않고 끝난 뒤에는 job-retention 동안 조회할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class CommentBulkDeleteService {
+
+	private final CommentRepository commentRepository;
+	private final TodoRepository todoRepository;
+	private final TodoCache todoCache;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final Duration chunkPause;
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "comment-bulk-delete");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Cache<String, Job> jobs;
+
+	public CommentBulkDeleteService(
+		CommentRepository commentRepository,
+		TodoRepository todoRepository,
+		TodoCache todoCache,
+		PlatformTransactionManager transactionManager,
+		@Value("${comment.bulk-delete.chunk-size:500}") int chunkSize,
+		@Value("${comment.bulk-delete.chunk-pause:PT0.05S}") Duration chunkPause,
+		@Value("${comment.bulk-delete.job-retention:PT1H}") Duration jobRetention
+	) {
+		this.commentRepository = commentRepository;
+		this.todoRepository = todoRepository;
+		this.todoCache = todoCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.chunkPause = chunkPause;
+		this.jobs = Caffeine.newBuilder()
+			.expireAfter(new JobExpiry(jobRetention))
+			.build();
+	}
+
+	public CommentBulkDeleteResponse start(CommentBulkDeleteRequest request) {
+		if (!request.hasCondition()) {
+			throw new InvalidRequestException("삭제할 댓글 조건을 하나 이상 지정해야 합니다.");
+		}
+
+		Job job = new Job(UUID.randomUUID().toString());
+		jobs.put(job.id, job);
+		executor.execute(() -> run(job, request));
+		log.info("댓글 일괄 삭제를 시작합니다. jobId={}, condition={}", job.id, request);
+		return job.toResponse();
+	}
+
+	public CommentBulkDeleteResponse getJob(String jobId) {
+		Job job = jobs.getIfPresent(jobId);
+		if (job == null) {
+			throw new InvalidRequestException("Bulk delete job not found");
+		}
+		return job.toResponse();
+	}
+
+	// 진행 중인 chunk 트랜잭션은 끝까지 마치도록 기다린 뒤 종료합니다. 남은 chunk 는 다시 요청하면 이어서 지워집니다.
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+			executor.shutdownNow();
+		}
+	}
+
+	private void run(Job job, CommentBulkDeleteRequest request) {
+		try {
+			long lastId = 0;
+			while (true) {
+				if (executor.isShutdown()) {
+					finish(job, BulkDeleteStatus.FAILED, "애플리케이션 종료로 중단되었습니다.");
+					return;
+				}
+
+				List<Long> ids = commentRepository.findIdsToDelete(request, lastId, chunkSize);
+				if (ids.isEmpty()) {
+					break;
+				}
+
+				int deletedCount = transactionTemplate.execute(status -> deleteChunk(ids));
+				job.deletedCount.addAndGet(deletedCount);
+				job.chunkCount.incrementAndGet();
+				lastId = ids.get(ids.size() - 1);
+
+				if (ids.size() < chunkSize) {
+					break;
+				}
+				Thread.sleep(chunkPause.toMillis());
+			}
+			finish(job, BulkDeleteStatus.COMPLETED, null);
+			log.info("댓글 일괄 삭제를 마쳤습니다. jobId={}, deleted={}, chunks={}",
+				job.id, job.deletedCount.get(), job.chunkCount.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			finish(job, BulkDeleteStatus.FAILED, "interrupted");
+		} catch (RuntimeException e) {
+			log.warn("댓글 일괄 삭제에 실패했습니다. jobId={}, deleted={}", job.id, job.deletedCount.get(), e);
+			finish(job, BulkDeleteStatus.FAILED, e.getMessage());
+		}
+	}
+
+	// 다시 넣어야 JobExpiry 가 끝난 상태를 보고 이 시점부터 보관 기간을 셉니다.
+	private void finish(Job job, BulkDeleteStatus status, String failureMessage) {
+		job.finish(status, failureMessage);
+		jobs.put(job.id, job);
+	}
+
+	private int deleteChunk(List<Long> ids) {
+		// 조회 이후 다른 요청이 지운 댓글은 잠금 조회에서 빠지므로, 잠근 행 수가 곧 삭제될 행 수입니다.
+		Map<Long, Long> deletedByTodo = commentRepository.findTodoIdsByIdInForUpdate(ids).stream()
+			.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+		int deletedCount = commentRepository.deleteByIds(ids);
+
+		deletedByTodo.forEach((todoId, count) -> todoRepository.addCommentCount(todoId, -count));
+		todoCache.evictAll(deletedByTodo.keySet());
+		return deletedCount;
+	}
+
+	private static class JobExpiry implements Expiry<String, Job> {
+
+		private final long retentionNanos;
+
+		private JobExpiry(Duration retention) {
+			this.retentionNanos = retention.toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(String jobId, Job job, long currentTime) {
+			return job.status == BulkDeleteStatus.RUNNING ? Long.MAX_VALUE : retentionNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(String jobId, Job job, long currentTime, long currentDuration) {
+			return expireAfterCreate(jobId, job, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String jobId, Job job, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+	private static class Job {
+
+		private final String id;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final AtomicLong deletedCount = new AtomicLong();
+		private final AtomicLong chunkCount = new AtomicLong();
+		private volatile BulkDeleteStatus status = BulkDeleteStatus.RUNNING;
+		private volatile LocalDateTime finishedAt;
+		private volatile String failureMessage;
+
+		private Job(String id) {
+			this.id = id;
+		}
+
+		private void finish(BulkDeleteStatus status, String failureMessage) {
+			this.failureMessage = failureMessage;
+			this.finishedAt = LocalDateTime.now();
+			this.status = status;
+		}
+
+		private CommentBulkDeleteResponse toResponse() {
+			return new CommentBulkDeleteResponse(id, status, deletedCount.get(), chunkCount.get(), startedAt,
+				finishedAt, failureMessage);
+		}
+	}
+}
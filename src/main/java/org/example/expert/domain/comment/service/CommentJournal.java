@@ -0,0 +1,292 @@
+package org.example.expert.domain.comment.service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쓰기 지연 댓글의 append-only 큐 파일. 한 줄에 PendingComment 하나를 JSON 으로 기록합니다.
+ * append 는 기록만 하고 위치를 돌려주며, awaitDurable 이 그 위치까지 fsync 된 뒤에 반환합니다.
+ * 반환된 댓글은 프로세스가 죽어도 재시작 시 복구됩니다.
+ * <p>
+ * fsync 는 group commit 으로 묶습니다. 기다리는 스레드 중 하나가 그때까지 기록된 레코드 전체를 한 번에 fsync 하고,
+ * 나머지는 그 결과를 기다렸다가 함께 반환합니다. 동시에 들어온 요청 수만큼 fsync 가 줄어
+ * 처리량이 1/fsync 지연에 묶이지 않습니다. fsync 가 한 번 실패하면 페이지 캐시 상태를 믿을 수 없으므로 이후 기록을 모두 거절합니다.
+ * <p>
+ * 파일은 comments-{첫 시퀀스}.journal 세그먼트로 나뉘며, 기록 중인 세그먼트가 segmentBytes 를 넘으면 다음 레코드부터
+ * 새 세그먼트에 씁니다. 레코드가 모두 체크포인트 이하인 세그먼트는 deleteUpTo 로 지워 파일이 계속 커지지 않게 합니다.
+ * append, rotate, deleteUpTo, close 의 동시성 제어는 호출하는 쪽(CommentWriteBehindQueue)의 락에 맡기고,
+ * awaitDurable 만 락 밖에서 호출합니다.
+ */
+@Slf4j
+class CommentJournal implements AutoCloseable {
+
+	private static final byte NEW_LINE = '\n';
+	private static final String SEGMENT_PREFIX = "comments-";
+	private static final String SEGMENT_SUFFIX = ".journal";
+	// 세그먼트로 나누기 전의 단일 큐 파일. 열 때 첫 세그먼트로 이름을 바꿉니다.
+	private static final String LEGACY_FILE = "comments.journal";
+
+	private final Path directory;
+	private final ObjectMapper objectMapper;
+	private final boolean fsync;
+	private final long segmentBytes;
+	// 첫 시퀀스 순으로 정렬된 세그먼트. 마지막 세그먼트에 이어서 기록하며, 게이지가 다른 스레드에서 개수를 읽습니다.
+	private final ConcurrentSkipListMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+
+	private final Object syncMonitor = new Object();
+
+	// awaitDurable 이 락 없이 읽습니다. rotate 는 이전 세그먼트를 fsync 한 뒤에 channel 을 바꿉니다.
+	private volatile FileChannel channel;
+	// 이번 실행에서 기록한 바이트 수. 세그먼트와 무관하게 증가하는 논리 위치입니다.
+	private volatile long writtenPosition;
+	private volatile IOException syncFailure;
+	// syncMonitor 로 보호합니다.
+	private long syncedPosition;
+	private boolean syncing;
+
+	CommentJournal(Path directory, ObjectMapper objectMapper, boolean fsync, long segmentBytes) throws IOException {
+		Files.createDirectories(directory);
+		this.directory = directory;
+		this.objectMapper = objectMapper;
+		this.fsync = fsync;
+		this.segmentBytes = segmentBytes;
+
+		Path legacy = directory.resolve(LEGACY_FILE);
+		if (Files.exists(legacy)) {
+			Files.move(legacy, segmentPath(0));
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+			SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				segments.put(Long.parseLong(
+					name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+			}
+		}
+	}
+
+	/**
+	 * 세그먼트를 차례로 한 줄씩 읽어 consumer 에 넘기고, 읽은 가장 큰 시퀀스를 반환합니다(없으면 0).
+	 * 파일 전체를 메모리에 올리지 않습니다. 기록 도중 죽어서 잘린 줄이 있으면 버리고 그 위치부터 잘라냅니다.
+	 */
+	long recover(Consumer<PendingComment> consumer) throws IOException {
+		long lastSequence = 0;
+		for (Path file : segments.values()) {
+			lastSequence = Math.max(lastSequence, readSegment(file, consumer));
+		}
+
+		if (!segments.isEmpty()) {
+			channel = FileChannel.open(segments.lastEntry().getValue(), StandardOpenOption.WRITE);
+			channel.position(channel.size());
+		}
+		return lastSequence;
+	}
+
+	private long readSegment(Path file, Consumer<PendingComment> consumer) throws IOException {
+		long lastSequence = 0;
+		long validLength = 0;
+		long offset = 0;
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			int b;
+			while ((b = in.read()) != -1) {
+				offset++;
+				if (b != NEW_LINE) {
+					line.write(b);
+					continue;
+				}
+				PendingComment record;
+				try {
+					record = objectMapper.readValue(line.toByteArray(), PendingComment.class);
+				} catch (JsonProcessingException e) {
+					log.warn("손상된 댓글 큐 레코드 이후를 버립니다. file={}, offset={}", file, validLength);
+					break;
+				}
+				consumer.accept(record);
+				lastSequence = Math.max(lastSequence, record.sequence());
+				line.reset();
+				validLength = offset;
+			}
+		}
+
+		if (validLength < Files.size(file)) {
+			try (FileChannel truncating = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				truncating.truncate(validLength);
+			}
+		}
+		return lastSequence;
+	}
+
+	/**
+	 * 레코드를 기록하고 기록이 끝난 논리 위치를 반환합니다. 디스크에 내려갔는지는 awaitDurable 로 확인합니다.
+	 */
+	long append(PendingComment pendingComment) {
+		if (syncFailure != null) {
+			throw new UncheckedIOException("댓글 큐 파일의 fsync 가 실패해 더 기록하지 않습니다.", syncFailure);
+		}
+		long start = -1;
+		try {
+			if (channel == null || channel.position() >= segmentBytes) {
+				rotate(pendingComment.sequence());
+			}
+			byte[] json = objectMapper.writeValueAsBytes(pendingComment);
+			ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put(NEW_LINE).flip();
+			start = channel.position();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			writtenPosition += json.length + 1;
+			return writtenPosition;
+		} catch (IOException e) {
+			// 일부만 써진 줄이 남으면 이후 레코드까지 복구할 수 없으므로 쓰기 전 위치로 되돌립니다.
+			rollbackTo(start);
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * append 가 반환한 위치까지 fsync 될 때까지 기다립니다. 진행 중인 fsync 가 없으면 이 스레드가 대표로 fsync 합니다.
+	 */
+	void awaitDurable(long position) {
+		if (!fsync) {
+			return;
+		}
+		synchronized (syncMonitor) {
+			while (true) {
+				if (syncFailure != null) {
+					throw new UncheckedIOException("댓글 큐 파일의 fsync 가 실패했습니다.", syncFailure);
+				}
+				if (syncedPosition >= position) {
+					return;
+				}
+				if (!syncing) {
+					break;
+				}
+				waitForSync();
+			}
+			syncing = true;
+		}
+
+		// 위치를 먼저 읽어야 합니다. 그 위치까지의 바이트가 새 세그먼트에 있다면 channel 도 이미 새 세그먼트입니다.
+		long target = writtenPosition;
+		FileChannel current = channel;
+		IOException failure = null;
+		try {
+			current.force(false);
+		} catch (ClosedChannelException e) {
+			// rotate 가 닫기 전에 fsync 했으므로 target 까지는 이미 디스크에 있습니다.
+		} catch (IOException e) {
+			failure = e;
+		}
+
+		synchronized (syncMonitor) {
+			syncing = false;
+			if (failure == null) {
+				syncedPosition = Math.max(syncedPosition, target);
+			} else {
+				syncFailure = failure;
+				log.error("댓글 큐 파일을 fsync 하지 못했습니다. 이후 기록을 거절합니다. directory={}", directory, failure);
+			}
+			syncMonitor.notifyAll();
+		}
+		if (failure != null) {
+			throw new UncheckedIOException(failure);
+		}
+	}
+
+	private void waitForSync() {
+		try {
+			syncMonitor.wait();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new InterruptedIOException("댓글 큐 fsync 를 기다리다 중단됐습니다."));
+		}
+	}
+
+	private void rotate(long firstSequence) throws IOException {
+		Path file = segmentPath(firstSequence);
+		FileChannel next = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		next.position(next.size());
+		FileChannel previous = channel;
+		if (previous != null && fsync) {
+			// awaitDurable 이 닫힌 채널을 만나면 이 fsync 로 끝난 것으로 봅니다.
+			try {
+				previous.force(false);
+			} catch (IOException e) {
+				next.close();
+				throw e;
+			}
+		}
+		channel = next;
+		segments.put(firstSequence, file);
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
+	private void rollbackTo(long position) {
+		if (position < 0) {
+			return;
+		}
+		try {
+			channel.truncate(position);
+			channel.position(position);
+		} catch (IOException e) {
+			log.error("댓글 큐 파일을 되돌리지 못했습니다. directory={}, position={}", directory, position, e);
+		}
+	}
+
+	/**
+	 * 레코드가 모두 checkpoint 이하인 세그먼트를 지웁니다. 세그먼트의 마지막 시퀀스는 다음 세그먼트의 첫 시퀀스 - 1 이하이고,
+	 * 기록 중인 마지막 세그먼트는 남겨 둡니다.
+	 */
+	void deleteUpTo(long checkpoint) {
+		while (segments.size() > 1) {
+			Map.Entry<Long, Path> oldest = segments.firstEntry();
+			if (segments.higherKey(oldest.getKey()) - 1 > checkpoint) {
+				return;
+			}
+			try {
+				Files.deleteIfExists(oldest.getValue());
+			} catch (IOException e) {
+				log.warn("반영이 끝난 댓글 큐 세그먼트를 지우지 못했습니다. file={}", oldest.getValue(), e);
+				return;
+			}
+			segments.remove(oldest.getKey());
+		}
+	}
+
+	int segmentCount() {
+		return segments.size();
+	}
+
+	private Path segmentPath(long firstSequence) {
+		return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+		}
+	}
+}
@@ -1,35 +1,77 @@
 package org.example.expert.domain.comment.service;
 
-import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cursor.Cursor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final CommentWriteBehindQueue commentWriteBehindQueue;
+    private final TodoCache todoCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public CommentService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            CommentWriteBehindQueue commentWriteBehindQueue,
+            TodoCache todoCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.commentWriteBehindQueue = commentWriteBehindQueue;
+        this.todoCache = todoCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-    @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+        if (!commentWriteBehindQueue.isEnabled()) {
+            return transactionTemplate.execute(status -> insertComment(authUser, todoId, commentSaveRequest));
+        }
+
+        // 쓰기 지연 모드에서는 큐 파일에 기록되면 응답하고, INSERT 는 CommentWriteBehindQueue 가 배치로 합니다.
+        // 존재 확인은 리포지토리의 짧은 읽기 트랜잭션으로 끝내 fsync 를 기다리는 동안 커넥션을 잡지 않습니다.
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        long commentId = commentWriteBehindQueue.enqueue(authUser, todoId, commentSaveRequest.getContents());
+        return new CommentSaveResponse(
+                commentId,
+                commentSaveRequest.getContents(),
+                new UserResponse(authUser.getId(), authUser.getEmail())
+        );
+    }
+
+    private CommentSaveResponse insertComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        // FK 로만 쓰이므로 SELECT 없이 프록시 참조를 붙입니다.
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -38,6 +80,8 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todoId, 1);
+        todoCache.evict(todoId);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -46,20 +90,26 @@ public class CommentService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // 쓰기 지연 모드에서 대기 댓글을 훑은 뒤에 커밋된 행을 보려면 트랜잭션 밖에서 조회해야 합니다.
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        return commentWriteBehindQueue.withPending(todoId, () -> commentRepository.findResponsesByTodoId(todoId));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        CursorResponse.validateSize(size);
+
+        // 다음 페이지 존재 여부를 count 쿼리 없이 판단하기 위해 한 건 더 조회한다
+        Limit limit = Limit.of(size + 1);
+
+        List<CommentResponse> comments;
+        if (StringUtils.hasText(cursor)) {
+            Cursor position = Cursor.decode(cursor);
+            comments = commentRepository.findNextPageByTodoId(todoId, position.getTimestamp(), position.getId(), limit);
+        } else {
+            comments = commentRepository.findFirstPageByTodoId(todoId, limit);
         }
-        return dtoList;
+
+        return CursorResponse.of(comments, size, comment -> new Cursor(comment.getCreatedAt(), comment.getId()));
     }
 }
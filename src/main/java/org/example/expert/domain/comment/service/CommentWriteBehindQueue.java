@@ -0,0 +1,462 @@
+package org.example.expert.domain.comment.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.entity.CommentIngestCheckpoint;
+import org.example.expert.domain.comment.repository.CommentIngestCheckpointRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.entity.PooledIdAllocator;
+import org.example.expert.domain.common.entity.PooledIdSeeder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 댓글 쓰기 지연(write-behind) 모드. comment.write-behind.enabled=true 일 때만 동작합니다.
+ * <p>
+ * 요청 스레드는 댓글을 로컬 큐 파일(CommentJournal)에 fsync 까지 기록한 뒤 바로 응답하고(fsync 는 동시 요청끼리 묶음),
+ * 전용 스레드가 flush-interval 마다 쌓인 댓글을 JDBC 배치 INSERT 로 comments 에 반영합니다.
+ * 공용 @Scheduled 스레드를 쓰면 날씨 API 호출 같은 다른 작업이 길어질 때 반영이 밀려 max-pending 에 걸리기 때문입니다. 배치 INSERT, 댓글 수 카운터, 체크포인트 갱신은
+ * 한 트랜잭션이라 재시작 시 체크포인트 이후 레코드만 다시 반영하면 중복이나 유실이 없습니다.
+ * 큐 파일은 segment-size 단위 세그먼트로 나뉘고, 체크포인트를 넘긴 세그먼트는 반영 주기마다 지웁니다.
+ * 반영 전 댓글 수가 max-pending 을 넘으면 TooManyRequestsException 으로 요청을 거절합니다.
+ * <p>
+ * 배치가 실패하면 한 건씩 다시 반영하고, 그래도 제약 조건에 걸리는 댓글은 dead letter 파일로 옮긴 뒤 체크포인트를 넘깁니다.
+ * 한 건 때문에 뒤의 댓글이 모두 막히지 않게 하기 위해서입니다. DB 장애처럼 행과 무관한 실패는 다음 주기에 다시 시도합니다.
+ * <p>
+ * 댓글 id 는 enqueue 때 정해 큐 파일에 함께 기록합니다. 복구할 때 id 를 받을 수 있도록 PooledIdSeeder 가 먼저 초기화돼야 합니다.
+ */
+@Slf4j
+@Component
+@DependsOn(PooledIdSeeder.BEAN_NAME)
+public class CommentWriteBehindQueue {
+
+	// 큐에 쌓인 사이 일정이 삭제됐다면 INSERT 되지 않고 건너뜁니다(받아 둔 id 는 비워 둡니다).
+	private static final String INSERT_SQL =
+		"INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) "
+			+ "SELECT ?, ?, ?, t.id, ?, ? FROM todos t WHERE t.id = ?";
+	private static final String COUNTER_SQL = "UPDATE todos SET comment_count = comment_count + ? WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final CommentIngestCheckpointRepository checkpointRepository;
+	private final ObjectMapper objectMapper;
+	private final TodoCache todoCache;
+	private final PooledIdAllocator idAllocator;
+
+	private final boolean enabled;
+	private final Path directory;
+	private final Path deadLetterFile;
+	private final boolean fsync;
+	private final int batchSize;
+	private final int maxPending;
+	private final long segmentBytes;
+	private final Duration flushInterval;
+
+	private final ReentrantLock appendLock = new ReentrantLock();
+	private final ConcurrentLinkedQueue<PendingComment> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	// 자신을 모니터로 보호합니다.
+	private final ArrayDeque<Long> reservedIds = new ArrayDeque<>();
+	private final AtomicLong flushedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong deadLetteredCount = new AtomicLong();
+
+	private CommentJournal journal;
+	private ScheduledExecutorService flushExecutor;
+	private long nextSequence;
+	// 반영 스레드(flush)만 갱신합니다.
+	private long checkpointedSequence;
+
+	public CommentWriteBehindQueue(
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		CommentIngestCheckpointRepository checkpointRepository,
+		ObjectMapper objectMapper,
+		TodoCache todoCache,
+		PooledIdAllocator idAllocator,
+		@Value("${comment.write-behind.enabled:false}") boolean enabled,
+		@Value("${comment.write-behind.directory:data/comment-queue}") String directory,
+		@Value("${comment.write-behind.fsync:true}") boolean fsync,
+		@Value("${comment.write-behind.batch-size:500}") int batchSize,
+		@Value("${comment.write-behind.max-pending:10000}") int maxPending,
+		@Value("${comment.write-behind.segment-size:64MB}") DataSize segmentSize,
+		@Value("${comment.write-behind.flush-interval:PT0.2S}") Duration flushInterval
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.checkpointRepository = checkpointRepository;
+		this.objectMapper = objectMapper;
+		this.todoCache = todoCache;
+		this.idAllocator = idAllocator;
+		this.enabled = enabled;
+		this.directory = Path.of(directory);
+		this.deadLetterFile = this.directory.resolve("comments.dead-letter");
+		this.fsync = fsync;
+		this.batchSize = batchSize;
+		this.maxPending = maxPending;
+		this.segmentBytes = segmentSize.toBytes();
+		this.flushInterval = flushInterval;
+	}
+
+	@PostConstruct
+	public void recover() throws IOException {
+		if (!enabled) {
+			return;
+		}
+
+		journal = new CommentJournal(directory, objectMapper, fsync, segmentBytes);
+		long checkpoint = checkpointRepository.findById(CommentIngestCheckpoint.SINGLETON_ID)
+			.map(CommentIngestCheckpoint::getLastSequence)
+			.orElse(0L);
+
+		List<PendingComment> recovered = new ArrayList<>();
+		long lastSequence = journal.recover(record -> {
+			if (record.sequence() > checkpoint) {
+				recovered.add(record);
+			}
+		});
+		// id 를 기록하기 전 버전의 레코드는 여기서 id 를 정합니다. 반영 전에 다시 죽으면 다음 복구에서 새 id 를 받습니다.
+		Iterator<Long> legacyIds = reserveIds((int)recovered.stream().filter(record -> record.id() == null).count())
+			.iterator();
+		for (PendingComment record : recovered) {
+			pending.add(record.id() == null ? record.withId(legacyIds.next()) : record);
+		}
+		pendingCount.set(recovered.size());
+		nextSequence = Math.max(checkpoint, lastSequence) + 1;
+		checkpointedSequence = checkpoint;
+		journal.deleteUpTo(checkpoint);
+
+		flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "comment-write-behind-flush");
+			thread.setDaemon(true);
+			return thread;
+		});
+		flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(),
+			TimeUnit.MILLISECONDS);
+
+		log.info("댓글 쓰기 지연 큐를 열었습니다. directory={}, checkpoint={}, recovered={}, segments={}",
+			directory.toAbsolutePath(), checkpoint, pendingCount.get(), journal.segmentCount());
+	}
+
+	// 진행 중인 반영을 마친 뒤 남은 댓글을 한 번 더 반영하고 닫습니다.
+	@PreDestroy
+	public void shutdown() throws IOException, InterruptedException {
+		if (!enabled) {
+			return;
+		}
+		flushExecutor.shutdown();
+		if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+			flushExecutor.shutdownNow();
+		}
+		flush();
+		journal.close();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 댓글을 큐 파일에 기록하고, 반영될 때 쓰일 댓글 id 를 반환합니다. 반환되면 디스크에 기록된 상태이며, comments 반영은 flush 가 담당합니다.
+	 * 기록과 큐 추가만 락 안에서 하고 fsync 는 락 밖에서 기다려, 동시에 들어온 댓글이 fsync 한 번을 함께 씁니다.
+	 * 큐에는 fsync 전에 들어가므로, fsync 가 실패해 예외가 나더라도 그 댓글은 반영될 수 있습니다.
+	 */
+	public long enqueue(AuthUser authUser, long todoId, String contents) {
+		// 컬럼보다 긴 댓글은 반영 단계에서만 실패하므로 받기 전에 거절합니다.
+		if (contents.length() > Comment.MAX_CONTENTS_LENGTH) {
+			throw new InvalidRequestException("댓글은 " + Comment.MAX_CONTENTS_LENGTH + "자 이하로 입력해 주세요.");
+		}
+		if (pendingCount.incrementAndGet() > maxPending) {
+			pendingCount.decrementAndGet();
+			throw new TooManyRequestsException("댓글 등록 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+		}
+
+		long id;
+		long position;
+		try {
+			id = nextId();
+			appendLock.lock();
+			try {
+				PendingComment record = new PendingComment(nextSequence, id, todoId, authUser.getId(),
+					authUser.getEmail(), contents, LocalDateTime.now());
+				position = journal.append(record);
+				nextSequence++;
+				pending.add(record);
+			} finally {
+				appendLock.unlock();
+			}
+		} catch (RuntimeException e) {
+			pendingCount.decrementAndGet();
+			throw e;
+		}
+		journal.awaitDurable(position);
+		return id;
+	}
+
+	// enqueue 마다 트랜잭션을 열지 않도록 받아 둔 id 가 떨어졌을 때만 batch-size 만큼 한 트랜잭션으로 다시 받습니다.
+	// append 락 밖에서 호출합니다.
+	private long nextId() {
+		synchronized (reservedIds) {
+			if (reservedIds.isEmpty()) {
+				reservedIds.addAll(reserveIds(batchSize));
+			}
+			return reservedIds.poll();
+		}
+	}
+
+	private List<Long> reserveIds(int count) {
+		if (count == 0) {
+			return List.of();
+		}
+		return transactionTemplate.execute(status -> idAllocator.allocate(Comment.class, count));
+	}
+
+	/**
+	 * 커밋된 댓글 목록에 아직 반영되지 않은 같은 일정의 댓글을 이어 붙입니다(작성자의 read-your-writes).
+	 * 대기 댓글을 먼저 훑고 나서 커밋된 목록을 읽으므로, 그 사이에 반영된 댓글은 빠지지 않고 양쪽에 모두 보입니다.
+	 * 대기 댓글도 반영 후와 같은 id 를 갖고 있어 커밋된 목록에 있는 id 는 대기 쪽에서 뺍니다. 반영과 겹쳐도 재시도하지 않습니다.
+	 * 트랜잭션 밖에서 호출해야 커밋된 목록이 대기 댓글을 훑은 뒤의 상태를 봅니다.
+	 */
+	public List<CommentResponse> withPending(long todoId, Supplier<List<CommentResponse>> committedReader) {
+		if (!enabled) {
+			return committedReader.get();
+		}
+
+		List<PendingComment> pendingForTodo = pending.stream()
+			.filter(record -> record.todoId() == todoId)
+			.toList();
+		List<CommentResponse> committed = committedReader.get();
+		if (pendingForTodo.isEmpty()) {
+			return committed;
+		}
+
+		Set<Long> committedIds = committed.stream().map(CommentResponse::getId).collect(Collectors.toSet());
+		List<CommentResponse> merged = new ArrayList<>(committed.size() + pendingForTodo.size());
+		merged.addAll(committed);
+		for (PendingComment record : pendingForTodo) {
+			if (!committedIds.contains(record.id())) {
+				merged.add(record.toResponse());
+			}
+		}
+		return merged;
+	}
+
+	// 예외가 빠져나가면 ScheduledExecutorService 가 이후 실행을 멈추므로 여기서 잡습니다.
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.error("댓글 반영 주기가 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+		}
+	}
+
+	public synchronized void flush() {
+		if (!enabled) {
+			return;
+		}
+
+		List<PendingComment> batch = peekBatch();
+		while (!batch.isEmpty() && flushBatch(batch)) {
+			batch = peekBatch();
+		}
+		deleteCheckpointedSegments();
+	}
+
+	public int getPendingCount() {
+		return pendingCount.get();
+	}
+
+	public long getFlushedCount() {
+		return flushedCount.get();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	public long getDeadLetteredCount() {
+		return deadLetteredCount.get();
+	}
+
+	public int getJournalSegmentCount() {
+		return enabled ? journal.segmentCount() : 0;
+	}
+
+	// 반영이 커밋되기 전까지 큐에서 빼지 않아야 읽기 쪽이 계속 볼 수 있습니다.
+	private List<PendingComment> peekBatch() {
+		List<PendingComment> batch = new ArrayList<>(batchSize);
+		Iterator<PendingComment> iterator = pending.iterator();
+		while (iterator.hasNext() && batch.size() < batchSize) {
+			batch.add(iterator.next());
+		}
+		return batch;
+	}
+
+	private boolean flushBatch(List<PendingComment> batch) {
+		try {
+			commit(batch);
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("댓글 배치 반영에 실패했습니다. 한 건씩 다시 반영합니다. size={}, cause={}", batch.size(), e.getMessage());
+		}
+
+		for (PendingComment record : batch) {
+			try {
+				commit(List.of(record));
+			} catch (DataIntegrityViolationException e) {
+				if (!deadLetter(record, e)) {
+					return false;
+				}
+			} catch (RuntimeException e) {
+				log.warn("댓글 반영에 실패했습니다. 다음 주기에 다시 시도합니다. sequence={}, cause={}",
+					record.sequence(), e.getMessage());
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// INSERT, 댓글 수, 체크포인트를 한 트랜잭션으로 반영한 뒤에야 큐에서 뺍니다. 실패하면 아무것도 바뀌지 않습니다.
+	private void commit(List<PendingComment> batch) {
+		long lastSequence = batch.get(batch.size() - 1).sequence();
+		List<Object[]> rows = new ArrayList<>(batch.size());
+		for (PendingComment record : batch) {
+			rows.add(new Object[] {record.id(), record.contents(), record.userId(), record.createdAt(),
+				record.createdAt(), record.todoId()});
+		}
+
+		int[] counts = transactionTemplate.execute(status -> {
+			int[] insertCounts = jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+			List<Object[]> counterRows = countInsertedByTodo(batch, insertCounts).entrySet().stream()
+				.map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+				.toList();
+			jdbcTemplate.batchUpdate(COUNTER_SQL, counterRows);
+			advanceCheckpoint(lastSequence);
+			return insertCounts;
+		});
+
+		removeHead(batch.size());
+		countResults(counts);
+		todoCache.evictAll(batch.stream().map(PendingComment::todoId).distinct().toList());
+	}
+
+	/**
+	 * 반영할 수 없는 댓글을 dead letter 파일에 남기고 체크포인트를 넘깁니다.
+	 * 파일 기록 뒤 체크포인트 갱신이 실패하면 다음 주기에 같은 레코드가 한 번 더 기록될 수 있어 sequence 로 구분합니다.
+	 */
+	private boolean deadLetter(PendingComment record, DataIntegrityViolationException cause) {
+		try {
+			appendDeadLetter(record);
+			transactionTemplate.executeWithoutResult(status -> advanceCheckpoint(record.sequence()));
+			removeHead(1);
+			deadLetteredCount.incrementAndGet();
+			log.error("반영할 수 없는 댓글을 dead letter 파일로 옮겼습니다. file={}, sequence={}, todoId={}, cause={}",
+				deadLetterFile.toAbsolutePath(), record.sequence(), record.todoId(), cause.getMessage());
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("댓글을 dead letter 로 옮기지 못했습니다. 다음 주기에 다시 시도합니다. sequence={}, cause={}",
+				record.sequence(), e.getMessage());
+			return false;
+		}
+	}
+
+	private void appendDeadLetter(PendingComment record) {
+		try (FileChannel channel = FileChannel.open(deadLetterFile, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			byte[] json = objectMapper.writeValueAsBytes(record);
+			ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte)'\n').flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void advanceCheckpoint(long sequence) {
+		CommentIngestCheckpoint checkpoint = checkpointRepository.findById(CommentIngestCheckpoint.SINGLETON_ID)
+			.orElseGet(() -> new CommentIngestCheckpoint(0L));
+		checkpoint.advanceTo(sequence);
+		checkpointRepository.save(checkpoint);
+	}
+
+	// 커밋된 뒤 큐 머리에서 빼는 레코드는 시퀀스 순이므로 마지막으로 뺀 시퀀스까지 체크포인트된 상태입니다.
+	private void removeHead(int count) {
+		for (int i = 0; i < count; i++) {
+			checkpointedSequence = pending.poll().sequence();
+		}
+		pendingCount.addAndGet(-count);
+	}
+
+	// 카운터는 실제로 INSERT 된 행만 일정별로 합쳐 한 번씩 올립니다.
+	private Map<Long, Long> countInsertedByTodo(List<PendingComment> batch, int[] insertCounts) {
+		Map<Long, Long> insertedByTodo = new HashMap<>();
+		for (int i = 0; i < batch.size(); i++) {
+			if (insertCounts[i] != 0) {
+				insertedByTodo.merge(batch.get(i).todoId(), 1L, Long::sum);
+			}
+		}
+		return insertedByTodo;
+	}
+
+	// 0 은 일정이 사라져 건너뛴 행. 드라이버가 배치 결과를 주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 셉니다.
+	private void countResults(int[] counts) {
+		for (int count : counts) {
+			if (count == 0) {
+				droppedCount.incrementAndGet();
+			} else {
+				flushedCount.incrementAndGet();
+			}
+		}
+	}
+
+	private void deleteCheckpointedSegments() {
+		appendLock.lock();
+		try {
+			journal.deleteUpTo(checkpointedSequence);
+		} finally {
+			appendLock.unlock();
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.comment.service;
+
+import java.time.LocalDateTime;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+/**
+ * 쓰기 지연 큐에 기록된, 아직 comments 테이블에 반영되지 않은 댓글.
+ * sequence 는 큐 파일 안에서 단조 증가하며 체크포인트 비교에 쓰입니다.
+ * id 는 enqueue 때 받아 둔 comments.id 로, 반영 후에도 같은 값이라 커밋된 행과 중복을 가려낼 수 있습니다.
+ * id 를 기록하기 전 버전의 큐 파일에서 읽은 레코드는 null 이며 복구할 때 채웁니다.
+ */
+record PendingComment(long sequence, Long id, long todoId, long userId, String email, String contents,
+					  LocalDateTime createdAt) {
+
+	PendingComment withId(Long id) {
+		return new PendingComment(sequence, id, todoId, userId, email, contents, createdAt);
+	}
+
+	CommentResponse toResponse() {
+		return new CommentResponse(id, contents, new UserResponse(userId, email), createdAt);
+	}
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.common.aop;
+
+/**
+ * 요청 스레드에서 최대 길이까지 문자열로 만든 감사 로그 한 건. 요청이 끝난 뒤 재사용되거나 바뀔 수 있는 인자/응답 객체는 담지 않고,
+ * AuditLogWriter 스레드는 기록만 합니다. 실패한 요청은 response 대신 error 가 있습니다.
+ */
+record AuditEvent(String method, String url, String ip, String body, String response, String error,
+				  long elapsedNanos) {
+}
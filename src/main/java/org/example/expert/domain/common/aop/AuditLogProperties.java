@@ -0,0 +1,28 @@
+package org.example.expert.domain.common.aop;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * API 감사 로그 설정.
+ * 엔드포인트별 샘플링 비율은 "컨트롤러이름.메서드이름" 을 키로 지정합니다.
+ * 예) audit-log.sample-rates[TodoController.getTodos]=0.01
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "audit-log")
+public class AuditLogProperties {
+
+	private boolean enabled = true;
+	private double defaultSampleRate = 1.0;
+	private Map<String, Double> sampleRates = new HashMap<>();
+	private int maxPayloadLength = 512;
+	private int queueCapacity = 8192;
+}
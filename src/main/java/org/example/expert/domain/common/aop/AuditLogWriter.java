@@ -0,0 +1,109 @@
+package org.example.expert.domain.common.aop;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감사 로그를 별도 스레드에서 기록합니다.
+ * 요청 스레드는 최대 길이까지 만든 문자열을 고정 크기 큐에 offer 만 하고, 큐가 가득 차면 이벤트를 버리고 dropped 카운터만 올립니다.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+	private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	private final BlockingQueue<AuditEvent> queue;
+	private final AtomicLong publishedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final Thread writerThread;
+
+	private volatile boolean running = true;
+	private long reportedDroppedCount;
+	private long lastDropReportNanos = System.nanoTime();
+
+	public AuditLogWriter(AuditLogProperties properties) {
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+		this.writerThread = new Thread(this::drain, "audit-log-writer");
+		this.writerThread.setDaemon(true);
+	}
+
+	@PostConstruct
+	public void start() {
+		writerThread.start();
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		writerThread.join(TimeUnit.SECONDS.toMillis(5));
+	}
+
+	public void publish(AuditEvent event) {
+		if (queue.offer(event)) {
+			publishedCount.incrementAndGet();
+		} else {
+			droppedCount.incrementAndGet();
+		}
+	}
+
+	public long getPublishedCount() {
+		return publishedCount.get();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	private void drain() {
+		while (running || !queue.isEmpty()) {
+			try {
+				AuditEvent event = queue.poll(1, TimeUnit.SECONDS);
+				if (event != null) {
+					write(event);
+				}
+				reportDrops();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.warn("감사 로그 기록에 실패했습니다.", e);
+			}
+		}
+	}
+
+	private void write(AuditEvent event) {
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(event.elapsedNanos());
+
+		if (event.error() != null) {
+			log.info("[{}] {} [IP: {}] Body: {} - Error: {} ({}ms)", event.method(), event.url(), event.ip(),
+				event.body(), event.error(), elapsedMillis);
+			return;
+		}
+
+		log.info("[{}] {} [IP: {}] Body: {} - Response: {} ({}ms)", event.method(), event.url(), event.ip(),
+			event.body(), event.response(), elapsedMillis);
+	}
+
+	private void reportDrops() {
+		long now = System.nanoTime();
+		if (now - lastDropReportNanos < DROP_REPORT_INTERVAL_NANOS) {
+			return;
+		}
+		lastDropReportNanos = now;
+
+		long dropped = droppedCount.get();
+		if (dropped > reportedDroppedCount) {
+			log.warn("감사 로그 큐가 가득 차서 {}건의 이벤트를 버렸습니다. (누적 {}건)", dropped - reportedDroppedCount, dropped);
+			reportedDroppedCount = dropped;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package org.example.expert.domain.common.aop;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * 요청/응답 객체를 최대 길이까지만 문자열로 만듭니다.
+ * 컬렉션과 Page, 목록을 담은 DTO 는 전체 toString() 을 만들지 않고 원소 단위로 잘라냅니다.
+ * 요청 스레드에서 호출하므로 서블릿 요청/응답처럼 요청이 끝나면 재사용되는 객체는 클래스 이름만 남깁니다.
+ */
+final class AuditPayloadFormatter {
+
+	private static final String ELLIPSIS = "...";
+
+	private AuditPayloadFormatter() {
+	}
+
+	static String format(Object value, int maxLength) {
+		StringBuilder builder = new StringBuilder(Math.min(maxLength, 256));
+		append(builder, value, maxLength);
+		return builder.toString();
+	}
+
+	private static void append(StringBuilder builder, Object value, int maxLength) {
+		if (builder.length() >= maxLength) {
+			return;
+		}
+
+		if (value instanceof ResponseEntity<?> responseEntity) {
+			append(builder, responseEntity.getBody(), maxLength);
+		} else if (value instanceof Object[] array) {
+			appendElements(builder, Arrays.asList(array).iterator(), array.length, maxLength);
+		} else if (value instanceof Page<?> page) {
+			appendBounded(builder, "Page(number=" + page.getNumber() + ", size=" + page.getSize()
+				+ ", totalElements=" + page.getTotalElements() + ", content=", maxLength);
+			appendElements(builder, page.getContent().iterator(), page.getNumberOfElements(), maxLength);
+			builder.append(')');
+		} else if (value instanceof CursorResponse<?> cursorResponse) {
+			appendBounded(builder, "CursorResponse(nextCursor=" + cursorResponse.getNextCursor() + ", content=",
+				maxLength);
+			append(builder, cursorResponse.getContent(), maxLength);
+			builder.append(')');
+		} else if (value instanceof TodoBulkSaveRequest todoBulkSaveRequest) {
+			appendBounded(builder, "TodoBulkSaveRequest(todos=", maxLength);
+			append(builder, todoBulkSaveRequest.getTodos(), maxLength);
+			builder.append(')');
+		} else if (value instanceof CommentBulkDeleteRequest request) {
+			appendBounded(builder, "CommentBulkDeleteRequest(userId=" + request.getUserId() + ", todoId="
+				+ request.getTodoId() + ", from=" + request.getFrom() + ", to=" + request.getTo() + ", commentIds=",
+				maxLength);
+			append(builder, request.getCommentIds(), maxLength);
+			builder.append(')');
+		} else if (value instanceof Collection<?> collection) {
+			appendBounded(builder, "[", maxLength);
+			appendElements(builder, collection.iterator(), collection.size(), maxLength);
+			builder.append(']');
+		} else if (value instanceof ServletRequest || value instanceof ServletResponse) {
+			appendBounded(builder, value.getClass().getSimpleName(), maxLength);
+		} else {
+			appendBounded(builder, String.valueOf(value), maxLength);
+		}
+	}
+
+	private static void appendElements(StringBuilder builder, Iterator<?> iterator, int size, int maxLength) {
+		int written = 0;
+		while (iterator.hasNext()) {
+			if (builder.length() >= maxLength) {
+				builder.append("(+").append(size - written).append(" more)");
+				return;
+			}
+			if (written > 0) {
+				builder.append(", ");
+			}
+			append(builder, iterator.next(), maxLength);
+			written++;
+		}
+	}
+
+	private static void appendBounded(StringBuilder builder, String text, int maxLength) {
+		int remaining = maxLength - builder.length();
+		if (text.length() <= remaining) {
+			builder.append(text);
+		} else if (remaining > 0) {
+			builder.append(text, 0, remaining).append(ELLIPSIS);
+		}
+	}
+}
@@ -1,52 +1,107 @@
 package org.example.expert.domain.common.aop;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 
 /**
  * @author    : kimjungmin
  * Created on : 2025. 4. 16.
  */
-@Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class LoggingAspect {
+
+	private static final String REDACTED = "[REDACTED]";
+
+	private final AuditLogProperties properties;
+	private final AuditLogWriter auditLogWriter;
+	private final Map<Method, Double> sampleRateCache = new ConcurrentHashMap<>();
+	private final Map<Method, int[]> credentialArgsCache = new ConcurrentHashMap<>();
+
 	@Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
 	public void restController() {
 	}
 
 	@Around("restController()")
 	public Object loggingAround(ProceedingJoinPoint joinPoint) throws Throwable {
+		// 샘플링에서 제외된 요청은 문자열 생성 없이 바로 실행
+		Method targetMethod = ((MethodSignature)joinPoint.getSignature()).getMethod();
+		if (!isSampled(targetMethod)) {
+			return joinPoint.proceed();
+		}
+		int maxLength = properties.getMaxPayloadLength();
+		String body = AuditPayloadFormatter.format(redactCredentials(targetMethod, joinPoint.getArgs()), maxLength);
+
 		HttpServletRequest request = getCurrentHttpRequest();
 		String ip = request.getRemoteAddr();
 		String url = request.getRequestURI();
 		String method = request.getMethod();
 
-		// 요청 바디 로깅 (Method 파라미터 기준)
-		Object[] args = joinPoint.getArgs();
-		String requestBody = Arrays.stream(args)
-			.map(Object::toString)
-			.collect(Collectors.joining(", "));
+		long start = System.nanoTime();
+		try {
+			Object result = joinPoint.proceed();
+			auditLogWriter.publish(new AuditEvent(method, url, ip, body, AuditPayloadFormatter.format(result, maxLength),
+				null, System.nanoTime() - start));
+			return result;
+		} catch (Throwable e) {
+			auditLogWriter.publish(new AuditEvent(method, url, ip, body, null, e.toString(),
+				System.nanoTime() - start));
+			throw e;
+		}
+	}
+
+	private boolean isSampled(Method method) {
+		if (!properties.isEnabled()) {
+			return false;
+		}
 
-		log.info("[{}] {}  [IP: {}], Body: {}", method, url, ip, requestBody);
+		double sampleRate = sampleRateCache.computeIfAbsent(method, m -> properties.getSampleRates().getOrDefault(
+			m.getDeclaringClass().getSimpleName() + "." + m.getName(), properties.getDefaultSampleRate()));
 
-		Object result = joinPoint.proceed();
+		return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
 
-		// 응답 바디 로깅
-		log.info("[{}] {} - Response: {}", method, url, result);
+	// Authorization 헤더로 받은 토큰은 감사 로그에 남기지 않습니다. 요청 본문의 토큰은 DTO 의 @ToString.Exclude 로 가립니다.
+	private Object[] redactCredentials(Method method, Object[] args) {
+		int[] credentialArgs = credentialArgsCache.computeIfAbsent(method, LoggingAspect::findCredentialArgs);
+		if (credentialArgs.length == 0) {
+			return args;
+		}
+		Object[] redacted = args.clone();
+		for (int index : credentialArgs) {
+			redacted[index] = REDACTED;
+		}
+		return redacted;
+	}
 
-		return result;
+	private static int[] findCredentialArgs(Method method) {
+		Parameter[] parameters = method.getParameters();
+		return IntStream.range(0, parameters.length)
+			.filter(index -> {
+				RequestHeader header = AnnotatedElementUtils.findMergedAnnotation(parameters[index], RequestHeader.class);
+				return header != null && HttpHeaders.AUTHORIZATION.equalsIgnoreCase(header.name());
+			})
+			.toArray();
 	}
 
 	private HttpServletRequest getCurrentHttpRequest() {
@@ -0,0 +1,92 @@
+package org.example.expert.domain.common.aop;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.metrics.service.MetricsRegistry;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 컨트롤러, 리포지토리, 외부 API 클라이언트 호출 시간을 MetricsRegistry 의 히스토그램에 기록합니다.
+ * 지표 이름은 "http.TodoController.getTodos", "repository.TodoRepository.save", "client.WeatherClient.getWeather" 형식입니다.
+ * 호출마다 문자열을 이어 붙이지 않도록 메서드별로 한 번 만들어 둡니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+	private final MetricsRegistry metricsRegistry;
+	private final Map<Method, String> metricNames = new ConcurrentHashMap<>();
+	// save 처럼 CrudRepository 에 선언된 메서드는 리포지토리마다 같은 Method 이므로 프록시 클래스별로 나눕니다.
+	private final Map<Class<?>, Map<Method, String>> repositoryMetricNames = new ConcurrentHashMap<>();
+
+	@Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
+	public void restController() {
+	}
+
+	@Pointcut("execution(* *(..)) && target(org.springframework.data.repository.Repository)")
+	public void repository() {
+	}
+
+	@Pointcut("execution(* org.example.expert.client.WeatherClient.get*Weather(..)) "
+		+ "|| execution(* org.example.expert.client.WeatherClient.refresh())")
+	public void weatherClient() {
+	}
+
+	@Around("restController()")
+	public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+		String name = metricNames.computeIfAbsent(getMethod(joinPoint),
+			method -> "http." + method.getDeclaringClass().getSimpleName() + "." + method.getName());
+		return time(name, joinPoint);
+	}
+
+	@Around("repository()")
+	public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		Class<?> targetClass = joinPoint.getTarget().getClass();
+		String name = repositoryMetricNames.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>())
+			.computeIfAbsent(getMethod(joinPoint),
+				method -> "repository." + repositoryName(targetClass) + "." + method.getName());
+		return time(name, joinPoint);
+	}
+
+	@Around("weatherClient()")
+	public Object timeWeatherClient(ProceedingJoinPoint joinPoint) throws Throwable {
+		String name = metricNames.computeIfAbsent(getMethod(joinPoint),
+			method -> "client.WeatherClient." + method.getName());
+		return time(name, joinPoint);
+	}
+
+	private static Method getMethod(ProceedingJoinPoint joinPoint) {
+		return ((MethodSignature)joinPoint.getSignature()).getMethod();
+	}
+
+	private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+		long start = System.nanoTime();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			metricsRegistry.record(name, System.nanoTime() - start);
+		}
+	}
+
+	// Spring Data 프록시가 구현한 인터페이스 중 이 애플리케이션의 리포지토리 인터페이스 이름을 찾습니다.
+	private String repositoryName(Class<?> targetClass) {
+		for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+			if (Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith("org.example.expert")) {
+				return candidate.getSimpleName();
+			}
+		}
+		return targetClass.getSimpleName();
+	}
+}
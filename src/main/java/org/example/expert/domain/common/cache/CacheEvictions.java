@@ -0,0 +1,30 @@
+package org.example.expert.domain.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 캐시 무효화 도우미.
+ */
+public final class CacheEvictions {
+
+	private CacheEvictions() {
+	}
+
+	/**
+	 * eviction 을 바로 실행하고, 트랜잭션 안이면 커밋 후에 한 번 더 실행합니다.
+	 * 커밋 전에 다른 요청이 DB 의 옛 값을 다시 캐시에 적재할 수 있기 때문입니다.
+	 */
+	public static void evictNowAndAfterCommit(Runnable eviction) {
+		eviction.run();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				eviction.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.common.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * (timestamp, id) 기준 keyset 페이지네이션 위치.
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로만 노출한다.
+ */
+@ToString
+@Getter
+public class Cursor {
+
+	private static final String DELIMITER = "_";
+
+	private final LocalDateTime timestamp;
+	private final Long id;
+
+	public Cursor(LocalDateTime timestamp, Long id) {
+		this.timestamp = timestamp;
+		this.id = id;
+	}
+
+	public String encode() {
+		String raw = timestamp + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Cursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int delimiterIndex = raw.lastIndexOf(DELIMITER);
+			return new Cursor(
+				LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+				Long.parseLong(raw.substring(delimiterIndex + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new InvalidRequestException("유효하지 않은 커서입니다.");
+		}
+	}
+}
@@ -7,7 +7,7 @@ import lombok.ToString;
 
 @ToString
 @Getter
-public class AuthUser {
+public final class AuthUser {
 
 	private final Long id;
 	private final String email;
@@ -0,0 +1,46 @@
+package org.example.expert.domain.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.example.expert.domain.common.cursor.Cursor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class CursorResponse<T> {
+
+	public static final int MAX_SIZE = 100;
+
+	private final List<T> content;
+	private final String nextCursor;
+	private final boolean hasNext;
+
+	public CursorResponse(List<T> content, String nextCursor) {
+		this.content = content;
+		this.nextCursor = nextCursor;
+		this.hasNext = nextCursor != null;
+	}
+
+	// 한 건 더 조회하는 LIMIT size + 1 과 마지막 행으로 커서를 만드는 과정이 모두 size 가 1 이상이어야 성립합니다.
+	public static int validateSize(int size) {
+		if (size < 1 || size > MAX_SIZE) {
+			throw new InvalidRequestException("size 는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+		}
+		return size;
+	}
+
+	/**
+	 * LIMIT size + 1 로 조회한 rows 에서 size 건을 잘라 페이지를 만듭니다. 한 건이 더 있었으면 이 페이지의 마지막 행으로 다음 커서를 만듭니다.
+	 */
+	public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+		if (rows.size() <= size) {
+			return new CursorResponse<>(rows, null);
+		}
+		List<T> content = rows.subList(0, size);
+		return new CursorResponse<>(content, cursorOf.apply(content.get(size - 1)).encode());
+	}
+}
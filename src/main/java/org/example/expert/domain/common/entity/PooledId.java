@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id 를 INSERT 전에 미리 할당하는 pooled 생성기. IDENTITY 와 달리 키를 돌려받을 필요가 없어 JDBC 배치 INSERT 가 가능합니다.
+ * 시퀀스/테이블(hi/lo) 방식과 할당 크기는 엔티티마다가 아니라 설정으로 한 번에 정합니다(PooledIdGenerator 참고).
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+
+    /**
+     * 시퀀스 이름. table 방식이면 같은 이름의 한 행짜리 테이블을 씁니다.
+     */
+    String value();
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.common.entity;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA 를 거치지 않는 JDBC 배치 INSERT 에 엔티티와 같은 {@link PooledId} 생성기의 id 를 나눠 줍니다.
+ * 생성기가 예약해 둔 범위를 공유하므로 JPA 저장과 섞여도 id 가 겹치지 않습니다. 트랜잭션 안에서 호출해야 합니다.
+ * 기존 행과 겹치지 않도록 id 원천은 기동 시 {@link PooledIdSeeder} 가 MAX(id) 뒤로 옮겨 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PooledIdAllocator {
+
+    private final EntityManager entityManager;
+
+    public List<Long> allocate(Class<?> entityType, int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) generator.generate(session, null, null, EventType.INSERT));
+        }
+        return ids;
+    }
+}
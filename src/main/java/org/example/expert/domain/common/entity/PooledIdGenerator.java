@@ -0,0 +1,52 @@
+package org.example.expert.domain.common.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * {@link PooledId} 의 생성기. Hibernate 설정(PersistenceConfig 가 persistence.id.* 로 채움)을 읽어
+ * 시퀀스 또는 테이블(hi/lo)에서 allocation-size 만큼 id 를 한 번에 예약하고, 그 범위는 메모리에서 나눠 줍니다.
+ * <ul>
+ *     <li>sequence: DB 시퀀스. 시퀀스를 지원하지 않는 DB(MySQL)에서는 Hibernate 가 같은 이름의 테이블로 대체합니다.</li>
+ *     <li>table: 시퀀스 대신 한 행짜리 테이블을 별도 트랜잭션으로 갱신합니다.</li>
+ * </ul>
+ */
+public class PooledIdGenerator extends SequenceStyleGenerator {
+
+    public static final String STRATEGY_SETTING = "expert.id.strategy";
+    public static final String ALLOCATION_SIZE_SETTING = "expert.id.allocation-size";
+
+    public static final String SEQUENCE_STRATEGY = "sequence";
+    public static final String TABLE_STRATEGY = "table";
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private final String name;
+
+    public PooledIdGenerator(PooledId config) {
+        this.name = config.value();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Map<String, Object> settings = serviceRegistry.requireService(ConfigurationService.class).getSettings();
+        String strategy = String.valueOf(settings.getOrDefault(STRATEGY_SETTING, SEQUENCE_STRATEGY));
+        if (!SEQUENCE_STRATEGY.equals(strategy) && !TABLE_STRATEGY.equals(strategy)) {
+            throw new MappingException("지원하지 않는 id 생성 방식입니다: " + strategy);
+        }
+
+        parameters.setProperty(SEQUENCE_PARAM, name);
+        parameters.setProperty(INCREMENT_PARAM,
+                String.valueOf(settings.getOrDefault(ALLOCATION_SIZE_SETTING, DEFAULT_ALLOCATION_SIZE)));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        parameters.setProperty(FORCE_TBL_PARAM, String.valueOf(TABLE_STRATEGY.equals(strategy)));
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.domain.common.entity;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 {@link PooledId} 시퀀스(또는 hi/lo 테이블)를 테이블의 MAX(id) 뒤로 맞춥니다.
+ * IDENTITY 로 쌓인 기존 데이터가 있는 DB 에서 시퀀스가 1 부터 시작하면 이미 쓰인 id 를 다시 나눠 주기 때문입니다.
+ * <p>
+ * POOLED 최적화기는 시퀀스 값 v 를 받으면 (v - allocationSize, v] 범위를 쓰므로 다음 값을 MAX(id) + allocationSize 이상으로 둡니다.
+ * 이미 그보다 앞서 있으면 건드리지 않아 다른 인스턴스가 예약해 둔 범위와 겹치지 않습니다.
+ * 요청이나 스케줄 작업이 id 를 받기 전에 끝나야 하므로 초기화 단계에서 실행합니다.
+ */
+@Slf4j
+@Component(PooledIdSeeder.BEAN_NAME)
+@RequiredArgsConstructor
+public class PooledIdSeeder {
+
+    // 시퀀스 값을 쓰는 초기화 코드가 @DependsOn 으로 지정합니다. @Import 로 등록해도 이름이 같도록 고정합니다.
+    public static final String BEAN_NAME = "pooledIdSeeder";
+
+    // SequenceStyleGenerator 가 테이블 방식에서 쓰는 값 컬럼. PooledIdGenerator 는 이름을 바꾸지 않습니다.
+    private static final String TABLE_VALUE_COLUMN = SequenceStyleGenerator.DEF_VALUE_COLUMN;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        SessionFactoryImplementor factory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = factory.getJdbcServices().getDialect();
+        factory.getMappingMetamodel().forEachEntityDescriptor(descriptor -> {
+            if (!descriptor.isInherited() && descriptor.getGenerator() instanceof PooledIdGenerator generator) {
+                seed(descriptor, generator.getDatabaseStructure(), dialect);
+            }
+        });
+    }
+
+    private void seed(EntityPersister descriptor, DatabaseStructure structure, Dialect dialect) {
+        Long maxId = findMaxId(descriptor);
+        if (maxId == null) {
+            return;
+        }
+        long target = maxId + structure.getIncrementSize();
+        String name = structure.getPhysicalName().render();
+
+        if (structure.isPhysicalSequence()) {
+            // 현재 값을 조회하는 표준 문법이 없어 한 번 증가시켜 읽습니다. 한 블록이 비지만 id 가 겹치지는 않습니다.
+            Long next = jdbcTemplate.queryForObject(
+                    dialect.getSequenceSupport().getSequenceNextValString(name), Long.class);
+            if (next != null && next < target) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + name + " RESTART WITH " + target);
+                log.info("id 시퀀스를 기존 데이터 뒤로 옮겼습니다. sequence={}, maxId={}, next={}", name, maxId, target);
+            }
+            return;
+        }
+
+        // 시퀀스가 없는 DB(MySQL)나 table 방식. 다음에 읽힐 값이 target 보다 작을 때만 올립니다.
+        int updated = jdbcTemplate.update("UPDATE " + name + " SET " + TABLE_VALUE_COLUMN + " = ? WHERE "
+                + TABLE_VALUE_COLUMN + " < ?", target, target);
+        if (updated > 0) {
+            log.info("id 테이블을 기존 데이터 뒤로 옮겼습니다. table={}, maxId={}, next={}", name, maxId, target);
+        }
+    }
+
+    private Long findMaxId(EntityPersister descriptor) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return entityManager.createQuery("SELECT MAX(e." + descriptor.getIdentifierPropertyName() + ") FROM "
+                    + descriptor.getEntityName() + " e", Long.class).getSingleResult();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.PooledId;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
@@ -12,7 +13,9 @@ import org.example.expert.domain.user.entity.User;
 @Table(name = "managers")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일정과 함께 배치로 INSERT 되도록 Todo 와 같은 방식으로 id 를 할당합니다.
+    @Id
+    @PooledId("managers_seq")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,13 +1,27 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 일정에서 출발하는 LEFT JOIN 이라 한 번의 조회로 "일정 없음"(빈 결과)과 "담당자 없음"(id 가 null 인 한 행)을 구분합니다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Todo t LEFT JOIN t.managers m LEFT JOIN m.user u " +
+            "WHERE t.id = :todoId " +
+            "ORDER BY m.id")
+    List<ManagerResponse> findResponsesJoiningTodo(@Param("todoId") Long todoId);
+
+    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id IN :todoIds ORDER BY m.id")
+    List<Manager> findAllByTodoIdInWithUser(@Param("todoIds") Collection<Long> todoIds);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteAllByTodoIdInBulk(@Param("todoId") Long todoId);
 }
@@ -0,0 +1,58 @@
+package org.example.expert.domain.manager.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.example.expert.domain.common.cache.CacheEvictions;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 일정별 담당자 목록(GET /todos/{todoId}/managers)을 todoId 기준으로 캐싱합니다.
+ * 담당자 등록/삭제 시 evict 로 해당 일정의 엔트리를 무효화합니다.
+ */
+@Component
+public class ManagerCache {
+
+	private final boolean enabled;
+	private final Cache<Long, List<ManagerResponse>> cache;
+
+	public ManagerCache(
+		@Value("${manager.cache.enabled:true}") boolean enabled,
+		@Value("${manager.cache.maximum-size:10000}") long maximumSize,
+		@Value("${manager.cache.ttl:PT5M}") Duration ttl
+	) {
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+	}
+
+	// loader 가 예외를 던지면(일정 없음) 캐싱되지 않습니다.
+	public List<ManagerResponse> get(long todoId, Function<Long, List<ManagerResponse>> loader) {
+		if (!enabled) {
+			return loader.apply(todoId);
+		}
+		return cache.get(todoId, loader);
+	}
+
+	public void evict(long todoId) {
+		CacheEvictions.evictNowAndAfterCommit(() -> cache.invalidate(todoId));
+	}
+
+	public CacheStats getStats() {
+		return cache.stats();
+	}
+
+	public long getSize() {
+		return cache.estimatedSize();
+	}
+}
@@ -1,8 +1,6 @@
 package org.example.expert.domain.manager.service;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -13,6 +11,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -29,50 +28,56 @@ public class ManagerService {
 	private final ManagerRepository managerRepository;
 	private final UserRepository userRepository;
 	private final TodoRepository todoRepository;
+	private final ManagerCache managerCache;
+	private final TodoCache todoCache;
 
 	@Transactional
 	public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
 		// 일정을 만든 유저
 		User user = User.fromAuthUser(authUser);
-		Todo todo = todoRepository.findById(todoId)
+		Long ownerId = todoRepository.findUserIdById(todoId)
 			.orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-		if (Objects.isNull(todo.getUser()) || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+		if (!ObjectUtils.nullSafeEquals(user.getId(), ownerId)) {
 			throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
 		}
 
-		User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
+		Long managerUserId = managerSaveRequest.getManagerUserId();
+		String managerEmail = userRepository.findEmailById(managerUserId)
 			.orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
 
-		if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+		if (ObjectUtils.nullSafeEquals(user.getId(), managerUserId)) {
 			throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
 		}
 
-		Manager newManagerUser = new Manager(managerUser, todo);
+		// 일정과 담당자 유저는 FK 로만 쓰이므로 엔티티를 읽지 않고 참조만 붙입니다.
+		Manager newManagerUser = new Manager(userRepository.getReferenceById(managerUserId),
+			todoRepository.getReferenceById(todoId));
 		Manager savedManagerUser = managerRepository.save(newManagerUser);
+		todoRepository.addManagerCount(todoId, 1);
+		managerCache.evict(todoId);
+		todoCache.evict(todoId);
 
 		return new ManagerSaveResponse(
 			savedManagerUser.getId(),
-			new UserResponse(managerUser.getId(), managerUser.getEmail())
+			new UserResponse(managerUserId, managerEmail)
 		);
 	}
 
-	@Transactional(readOnly = true)
+	// 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 조회는 쿼리 한 번이라 리포지토리 트랜잭션으로 충분합니다.
 	public List<ManagerResponse> getManagers(long todoId) {
-		Todo todo = todoRepository.findById(todoId)
-			.orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-		List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+		return managerCache.get(todoId, this::loadManagers);
+	}
 
-		List<ManagerResponse> dtoList = new ArrayList<>();
-		for (Manager manager : managerList) {
-			User user = manager.getUser();
-			dtoList.add(new ManagerResponse(
-				manager.getId(),
-				new UserResponse(user.getId(), user.getEmail())
-			));
+	private List<ManagerResponse> loadManagers(long todoId) {
+		List<ManagerResponse> rows = managerRepository.findResponsesJoiningTodo(todoId);
+		if (rows.isEmpty()) {
+			throw new InvalidRequestException("Todo not found");
 		}
-		return dtoList;
+
+		return rows.stream()
+			.filter(row -> row.getId() != null)
+			.toList();
 	}
 
 	@Transactional
@@ -95,5 +100,8 @@ public class ManagerService {
 		}
 
 		managerRepository.delete(manager);
+		todoRepository.addManagerCount(todoId, -1);
+		managerCache.evict(todoId);
+		todoCache.evict(todoId);
 	}
 }
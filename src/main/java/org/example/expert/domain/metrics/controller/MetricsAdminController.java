@@ -0,0 +1,26 @@
+package org.example.expert.domain.metrics.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.metrics.dto.response.MetricsResponse;
+import org.example.expert.domain.metrics.service.MetricsRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsAdminController {
+
+    private final MetricsRegistry metricsRegistry;
+
+    @GetMapping("/admin/metrics")
+    public ResponseEntity<MetricsResponse> getMetrics() {
+        return ResponseEntity.ok(metricsRegistry.snapshot());
+    }
+
+    @DeleteMapping("/admin/metrics")
+    public void resetMetrics() {
+        metricsRegistry.reset();
+    }
+}
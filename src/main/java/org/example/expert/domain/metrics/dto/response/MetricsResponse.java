@@ -0,0 +1,20 @@
+package org.example.expert.domain.metrics.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class MetricsResponse {
+
+	private final List<TimerMetricResponse> timers;
+	private final Map<String, Number> gauges;
+
+	public MetricsResponse(List<TimerMetricResponse> timers, Map<String, Number> gauges) {
+		this.timers = timers;
+		this.gauges = gauges;
+	}
+}
@@ -0,0 +1,47 @@
+package org.example.expert.domain.metrics.dto.response;
+
+import org.example.expert.domain.metrics.histogram.LatencyHistogram;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class TimerMetricResponse {
+
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	private final String name;
+	private final long count;
+	private final double throughputPerSecond;
+	private final double meanMillis;
+	private final double p50Millis;
+	private final double p95Millis;
+	private final double p99Millis;
+	private final double maxMillis;
+
+	public TimerMetricResponse(String name, long count, double throughputPerSecond, double meanMillis,
+		double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+		this.name = name;
+		this.count = count;
+		this.throughputPerSecond = throughputPerSecond;
+		this.meanMillis = meanMillis;
+		this.p50Millis = p50Millis;
+		this.p95Millis = p95Millis;
+		this.p99Millis = p99Millis;
+		this.maxMillis = maxMillis;
+	}
+
+	public static TimerMetricResponse of(String name, LatencyHistogram.Snapshot snapshot) {
+		return new TimerMetricResponse(
+			name,
+			snapshot.getCount(),
+			snapshot.getThroughputPerSecond(),
+			snapshot.getMeanNanos() / NANOS_PER_MILLI,
+			snapshot.getValueAtPercentile(50) / NANOS_PER_MILLI,
+			snapshot.getValueAtPercentile(95) / NANOS_PER_MILLI,
+			snapshot.getValueAtPercentile(99) / NANOS_PER_MILLI,
+			snapshot.getMaxNanos() / NANOS_PER_MILLI
+		);
+	}
+}
@@ -0,0 +1,120 @@
+package org.example.expert.domain.metrics.histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HDR 히스토그램과 같은 log-linear 버킷 구조의 lock-free 지연시간 히스토그램 (단위: 나노초).
+ * 128 미만은 1ns 단위, 그 이상은 2의 거듭제곱 구간마다 64개 버킷으로 나누므로 상대 오차는 약 1.6% 이하입니다.
+ * 기록은 AtomicLongArray 증가 한 번이라 요청 스레드 간 경합이 거의 없습니다.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 128
+	private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1; // 64
+	private static final long MAX_TRACKABLE_NANOS = 1L << 42; // 약 73분, 그 이상은 마지막 버킷에 기록
+	private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private volatile long startedAtNanos = System.nanoTime();
+
+	public void record(long nanos) {
+		long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE_NANOS));
+		counts.incrementAndGet(indexOf(value));
+		totalNanos.add(value);
+		maxNanos.accumulateAndGet(value, Math::max);
+	}
+
+	public Snapshot snapshot() {
+		long[] copied = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			copied[i] = counts.get(i);
+			count += copied[i];
+		}
+		double elapsedSeconds = (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+		return new Snapshot(copied, count, totalNanos.sum(), maxNanos.get(), elapsedSeconds);
+	}
+
+	/**
+	 * 누적값을 초기화합니다. 초기화 도중 기록된 값 일부는 유실될 수 있습니다.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0);
+		}
+		totalNanos.reset();
+		maxNanos.set(0);
+		startedAtNanos = System.nanoTime();
+	}
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int)value;
+		}
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+		return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int)((value >>> shift) - SUB_BUCKET_HALF);
+	}
+
+	// 버킷에 속하는 가장 큰 값 (HDR 의 highestEquivalentValue 와 같은 의미)
+	static long highestValueOf(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+		long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	public static class Snapshot {
+
+		private final long[] counts;
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+		private final double elapsedSeconds;
+
+		private Snapshot(long[] counts, long count, long totalNanos, long maxNanos, double elapsedSeconds) {
+			this.counts = counts;
+			this.count = count;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.elapsedSeconds = elapsedSeconds;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		public double getMeanNanos() {
+			return count == 0 ? 0 : (double)totalNanos / count;
+		}
+
+		public double getThroughputPerSecond() {
+			return elapsedSeconds <= 0 ? 0 : count / elapsedSeconds;
+		}
+
+		public long getValueAtPercentile(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			long target = Math.max(1, (long)Math.ceil(count * percentile / 100.0));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= target) {
+					return Math.min(highestValueOf(i), maxNanos);
+				}
+			}
+			return maxNanos;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package org.example.expert.domain.metrics.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtAuthenticationCache;
+import org.example.expert.config.PasswordHashingExecutor;
+import org.example.expert.domain.auth.service.EmailBloomFilter;
+import org.example.expert.domain.auth.service.PasswordUpgrader;
+import org.example.expert.domain.auth.service.TokenRevocationList;
+import org.example.expert.domain.comment.service.CommentWriteBehindQueue;
+import org.example.expert.domain.common.aop.AuditLogWriter;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 각 컴포넌트가 들고 있는 카운터를 /admin/metrics 의 게이지로 등록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsGaugeRegistrar {
+
+	private final MetricsRegistry metricsRegistry;
+	private final AuditLogWriter auditLogWriter;
+	private final JwtAuthenticationCache jwtAuthenticationCache;
+	private final TodoWeatherEnricher todoWeatherEnricher;
+	private final TodoCache todoCache;
+	private final ManagerCache managerCache;
+	private final CommentWriteBehindQueue commentWriteBehindQueue;
+	private final WeatherClient weatherClient;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final PasswordUpgrader passwordUpgrader;
+	private final EmailBloomFilter emailBloomFilter;
+	private final TokenRevocationList tokenRevocationList;
+
+	@PostConstruct
+	public void registerGauges() {
+		metricsRegistry.registerGauge("audit-log.published", auditLogWriter::getPublishedCount);
+		metricsRegistry.registerGauge("audit-log.dropped", auditLogWriter::getDroppedCount);
+
+		metricsRegistry.registerGauge("jwt.cache.size", jwtAuthenticationCache::getSize);
+		metricsRegistry.registerGauge("jwt.cache.hits", () -> jwtAuthenticationCache.getStats().hitCount());
+		metricsRegistry.registerGauge("jwt.cache.misses", () -> jwtAuthenticationCache.getStats().missCount());
+		metricsRegistry.registerGauge("jwt.cache.evictions", () -> jwtAuthenticationCache.getStats().evictionCount());
+		metricsRegistry.registerGauge("jwt.revocation.size", tokenRevocationList::getSize);
+		metricsRegistry.registerGauge("jwt.revocation.rejected", tokenRevocationList::getRejectedCount);
+
+		metricsRegistry.registerGauge("todo.cache.size", todoCache::getSize);
+		metricsRegistry.registerGauge("todo.cache.hits", () -> todoCache.getStats().hitCount());
+		metricsRegistry.registerGauge("todo.cache.misses", () -> todoCache.getStats().missCount());
+		metricsRegistry.registerGauge("todo.cache.evictions", () -> todoCache.getStats().evictionCount());
+
+		metricsRegistry.registerGauge("manager.cache.size", managerCache::getSize);
+		metricsRegistry.registerGauge("manager.cache.hits", () -> managerCache.getStats().hitCount());
+		metricsRegistry.registerGauge("manager.cache.misses", () -> managerCache.getStats().missCount());
+		metricsRegistry.registerGauge("manager.cache.evictions", () -> managerCache.getStats().evictionCount());
+
+		metricsRegistry.registerGauge("comment.write-behind.pending", commentWriteBehindQueue::getPendingCount);
+		metricsRegistry.registerGauge("comment.write-behind.flushed", commentWriteBehindQueue::getFlushedCount);
+		metricsRegistry.registerGauge("comment.write-behind.dropped", commentWriteBehindQueue::getDroppedCount);
+		metricsRegistry.registerGauge("comment.write-behind.dead-lettered",
+			commentWriteBehindQueue::getDeadLetteredCount);
+		metricsRegistry.registerGauge("comment.write-behind.journal-segments",
+			commentWriteBehindQueue::getJournalSegmentCount);
+
+		metricsRegistry.registerGauge("weather.circuit-state", () -> weatherClient.getCircuitState().ordinal());
+		metricsRegistry.registerGauge("todo.weather-enrichment.enriched", todoWeatherEnricher::getEnrichedCount);
+		metricsRegistry.registerGauge("todo.weather-enrichment.failures", todoWeatherEnricher::getFailureCount);
+		metricsRegistry.registerGauge("todo.weather-enrichment.lag-millis", todoWeatherEnricher::getLastLagMillis);
+
+		metricsRegistry.registerGauge("password.hashing.active", passwordHashingExecutor::getActiveCount);
+		metricsRegistry.registerGauge("password.hashing.queued", passwordHashingExecutor::getQueuedCount);
+		metricsRegistry.registerGauge("password.hashing.rejected", passwordHashingExecutor::getRejectedCount);
+		metricsRegistry.registerGauge("password.hashing.timed-out", passwordHashingExecutor::getTimedOutCount);
+		metricsRegistry.registerGauge("password.upgrade.upgraded", passwordUpgrader::getUpgradedCount);
+		metricsRegistry.registerGauge("password.upgrade.skipped", passwordUpgrader::getSkippedCount);
+		metricsRegistry.registerGauge("password.upgrade.conflicts", passwordUpgrader::getConflictCount);
+
+		metricsRegistry.registerGauge("auth.email-filter.size", emailBloomFilter::getInsertedCount);
+		metricsRegistry.registerGauge("auth.email-filter.skipped-lookups", emailBloomFilter::getSkippedLookupCount);
+		metricsRegistry.registerGauge("auth.email-filter.false-positives", emailBloomFilter::getFalsePositiveCount);
+		metricsRegistry.registerGauge("auth.email-filter.false-positive-rate", emailBloomFilter::getFalsePositiveRate);
+		metricsRegistry.registerGauge("auth.email-filter.expected-false-positive-rate",
+			emailBloomFilter::getExpectedFalsePositiveRate);
+	}
+}
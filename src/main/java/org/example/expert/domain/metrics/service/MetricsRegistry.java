@@ -0,0 +1,50 @@
+package org.example.expert.domain.metrics.service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.example.expert.domain.metrics.dto.response.MetricsResponse;
+import org.example.expert.domain.metrics.dto.response.TimerMetricResponse;
+import org.example.expert.domain.metrics.histogram.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 내부 지표 저장소.
+ * 타이머(지연시간 히스토그램)와 다른 컴포넌트의 카운터를 읽어오는 게이지를 이름으로 관리합니다.
+ */
+@Component
+public class MetricsRegistry {
+
+	private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+	private final Map<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+
+	public void record(String name, long nanos) {
+		timers.computeIfAbsent(name, key -> new LatencyHistogram()).record(nanos);
+	}
+
+	public void registerGauge(String name, Supplier<? extends Number> supplier) {
+		gauges.put(name, supplier);
+	}
+
+	public MetricsResponse snapshot() {
+		List<TimerMetricResponse> timerResponses = timers.entrySet().stream()
+			.map(entry -> TimerMetricResponse.of(entry.getKey(), entry.getValue().snapshot()))
+			.sorted(Comparator.comparing(TimerMetricResponse::getName))
+			.toList();
+
+		Map<String, Number> gaugeValues = new LinkedHashMap<>();
+		gauges.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey())
+			.forEach(entry -> gaugeValues.put(entry.getKey(), entry.getValue().get()));
+
+		return new MetricsResponse(timerResponses, gaugeValues);
+	}
+
+	public void reset() {
+		timers.values().forEach(LatencyHistogram::reset);
+	}
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoCounterRebuildResponse;
+import org.example.expert.domain.todo.dto.response.TodoWeatherEnrichmentResponse;
+import org.example.expert.domain.todo.service.TodoCounterService;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoSearchIndexer;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoExportService todoExportService;
+    private final TodoCounterService todoCounterService;
+    private final TodoSearchIndexer todoSearchIndexer;
+
+    @GetMapping("/admin/todos/weather-enrichment")
+    public ResponseEntity<TodoWeatherEnrichmentResponse> getWeatherEnrichmentStatistics() {
+        return ResponseEntity.ok(todoWeatherEnricher.getStatistics());
+    }
+
+    // 응답 본문을 직접 스트리밍하므로 ResponseEntity 대신 출력 스트림에 씁니다.
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Content-Disposition", "attachment; filename=\"todos.ndjson\"");
+        todoExportService.exportTodos(response.getOutputStream());
+    }
+
+    @GetMapping("/admin/todos/counters/drift")
+    public ResponseEntity<TodoCounterRebuildResponse> detectCounterDrift() {
+        return ResponseEntity.ok(todoCounterService.detectDrift());
+    }
+
+    @PostMapping("/admin/todos/counters/rebuild")
+    public ResponseEntity<TodoCounterRebuildResponse> rebuildCounters() {
+        return ResponseEntity.ok(todoCounterService.rebuild());
+    }
+
+    // 재색인한 일정 수를 돌려줍니다.
+    @PostMapping("/admin/todos/search-index/rebuild")
+    public ResponseEntity<Long> rebuildSearchIndex() {
+        return ResponseEntity.ok(todoSearchIndexer.rebuild());
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto;
+
+/**
+ * 일정의 기록된 카운터와 실제 댓글/담당자 수.
+ */
+public record TodoCounterRow(Long todoId, long commentCount, long actualCommentCount, long managerCount,
+							 long actualManagerCount) {
+
+	public long commentDelta() {
+		return actualCommentCount - commentCount;
+	}
+
+	public long managerDelta() {
+		return actualManagerCount - managerCount;
+	}
+
+	public boolean hasDrift() {
+		return commentDelta() != 0 || managerDelta() != 0;
+	}
+}
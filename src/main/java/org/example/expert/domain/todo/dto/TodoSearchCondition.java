@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 일정 검색 조건. null 이거나 비어 있는 조건은 적용하지 않습니다.
+ * 기간은 수정일 기준 [modifiedFrom, modifiedTo) 이고, terms 는 모두 포함해야 하는(AND) 검색어 접두어입니다.
+ */
+@Getter
+public class TodoSearchCondition {
+
+	private final String weather;
+	private final Long userId;
+	private final LocalDateTime modifiedFrom;
+	private final LocalDateTime modifiedTo;
+	private final List<String> terms;
+
+	public TodoSearchCondition(String weather, Long userId, LocalDateTime modifiedFrom, LocalDateTime modifiedTo,
+		List<String> terms) {
+		this.weather = weather;
+		this.userId = userId;
+		this.modifiedFrom = modifiedFrom;
+		this.modifiedTo = modifiedTo;
+		this.terms = terms;
+	}
+}
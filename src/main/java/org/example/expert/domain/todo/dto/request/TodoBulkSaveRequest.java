@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkSaveRequest {
+
+	@Valid
+	@NotEmpty(message = "등록할 일정은 한 건 이상이어야 합니다.")
+	@Size(max = 500, message = "한 번에 등록할 수 있는 일정은 최대 500건입니다.")
+	private List<TodoSaveRequest> todos;
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class TodoCounterRebuildResponse {
+
+	private final boolean corrected;
+	private final long scannedCount;
+	private final long driftedCount;
+
+	public TodoCounterRebuildResponse(boolean corrected, long scannedCount, long driftedCount) {
+		this.corrected = corrected;
+		this.scannedCount = scannedCount;
+		this.driftedCount = driftedCount;
+	}
+}
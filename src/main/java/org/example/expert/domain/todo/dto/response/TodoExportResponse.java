@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import lombok.Getter;
+
+@Getter
+public class TodoExportResponse {
+
+	private final Long id;
+	private final String title;
+	private final String contents;
+	private final String weather;
+	private final UserResponse user;
+	private final LocalDateTime createdAt;
+	private final LocalDateTime modifiedAt;
+	private final List<CommentResponse> comments;
+	private final List<ManagerResponse> managers;
+
+	public TodoExportResponse(Long id, String title, String contents, String weather, UserResponse user,
+		LocalDateTime createdAt, LocalDateTime modifiedAt, List<CommentResponse> comments,
+		List<ManagerResponse> managers) {
+		this.id = id;
+		this.title = title;
+		this.contents = contents;
+		this.weather = weather;
+		this.user = user;
+		this.createdAt = createdAt;
+		this.modifiedAt = modifiedAt;
+		this.comments = comments;
+		this.managers = managers;
+	}
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class TodoWeatherEnrichmentResponse {
+
+	private final boolean enabled;
+	private final long pendingCount;
+	private final long enrichedCount;
+	private final long failureCount;
+	private final long lastLagMillis;
+	private final LocalDateTime lastRunAt;
+
+	public TodoWeatherEnrichmentResponse(boolean enabled, long pendingCount, long enrichedCount, long failureCount,
+		long lastLagMillis, LocalDateTime lastRunAt) {
+		this.enabled = enabled;
+		this.pendingCount = pendingCount;
+		this.enrichedCount = enrichedCount;
+		this.failureCount = failureCount;
+		this.lastLagMillis = lastLagMillis;
+		this.lastRunAt = lastRunAt;
+	}
+}
@@ -3,9 +3,12 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.entity.PooledId;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,14 +17,32 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+    @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+    @Index(name = "idx_todos_weather_status_id", columnList = "weather_status, id"),
+    // 검색 필터(날씨, 작성자)와 목록 정렬(modified_at DESC, id DESC)을 한 인덱스로 처리합니다.
+    @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at, id"),
+    @Index(name = "idx_todos_user_id_modified_at_id", columnList = "user_id, modified_at, id")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 마다 키를 돌려받아야 해서 JDBC 배치가 꺼지므로 id 를 미리 할당합니다.
+    @Id
+    @PooledId("todos_seq")
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    @Enumerated(EnumType.STRING)
+    private WeatherStatus weatherStatus;
+
+    // 목록 화면용 비정규화 카운터. 원자적 UPDATE(TodoRepository.add*Count)로만 바뀌며 TodoCounterService 가 재계산합니다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -37,8 +58,11 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        // 날씨 없이 저장된 일정은 TodoWeatherEnricher 가 비동기로 채웁니다.
+        this.weatherStatus = weather == null ? WeatherStatus.PENDING : WeatherStatus.RESOLVED;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = managers.size();
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,41 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 일정 제목/내용의 역색인(inverted index). 단어 하나와 그 단어가 들어 있는 일정 id 한 쌍이 한 행입니다.
+ * 기본 키가 (term, todo_id) 라 단어 접두어 검색이 인덱스 범위 스캔 한 번으로 끝납니다.
+ * 행은 TodoSearchIndexer 가 JDBC 배치로 관리하고, 엔티티는 스키마와 검색 쿼리용으로만 씁니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@IdClass(TodoSearchTerm.Key.class)
+@Table(name = "todo_search_terms", indexes = {
+    @Index(name = "idx_todo_search_terms_todo_id", columnList = "todo_id")
+})
+public class TodoSearchTerm {
+
+    public static final int MAX_TERM_LENGTH = 50;
+
+    @Id
+    @Column(length = MAX_TERM_LENGTH)
+    private String term;
+
+    @Id
+    @Column(name = "todo_id")
+    private Long todoId;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String term;
+        private Long todoId;
+    }
+}
@@ -1,24 +1,116 @@
 package org.example.expert.domain.todo.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.example.expert.domain.todo.dto.TodoCounterRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+import jakarta.persistence.QueryHint;
 
-	@EntityGraph(attributePaths = "user")
-	Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoSearchRepository {
+
+	// 목록 조회는 DTO 로 바로 projection 해서 엔티티 생성과 영속성 컨텍스트 스냅샷 비용을 없앱니다.
+	@Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+		"t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, " +
+		"t.commentCount, t.managerCount) " +
+		"FROM Todo t JOIN t.user u " +
+		"ORDER BY t.modifiedAt DESC, t.id DESC",
+		countQuery = "SELECT COUNT(t) FROM Todo t")
+	Page<TodoResponse> findTodoResponses(Pageable pageable);
+
+	@Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+		"t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, " +
+		"t.commentCount, t.managerCount) " +
+		"FROM Todo t JOIN t.user u " +
+		"ORDER BY t.modifiedAt DESC, t.id DESC")
+	List<TodoResponse> findTodoResponses(Limit limit);
+
+	// (modifiedAt, id) 복합 인덱스를 타는 keyset 조회 - OFFSET 스캔과 count 쿼리가 없다
+	@Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+		"t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, " +
+		"t.commentCount, t.managerCount) " +
+		"FROM Todo t JOIN t.user u " +
+		"WHERE t.modifiedAt <= :modifiedAt " +
+		"AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+		"ORDER BY t.modifiedAt DESC, t.id DESC")
+	List<TodoResponse> findNextTodoResponses(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id,
+		Limit limit);
 
 	@Query("SELECT t FROM Todo t " +
 		"LEFT JOIN FETCH t.user " +
 		"WHERE t.id = :todoId")
 	Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+	// 전체 내보내기용 forward-only 커서. 호출하는 쪽에서 트랜잭션을 열고 Stream 을 닫아야 합니다.
+	// MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 행을 받아옵니다.
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.id")
+	Stream<Todo> streamAllWithUser();
+
 	int countById(Long todoId);
+
+	// 작성자 확인용 - Todo 엔티티를 읽지 않고 user_id 컬럼만 조회합니다.
+	@Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+	Optional<Long> findUserIdById(@Param("todoId") Long todoId);
+
+	List<Todo> findByWeatherStatusAndIdGreaterThanOrderByIdAsc(WeatherStatus weatherStatus, Long id, Limit limit);
+
+	long countByWeatherStatus(WeatherStatus weatherStatus);
+
+	// 벌크 UPDATE 라서 auditing(modifiedAt) 이 갱신되지 않아 목록 정렬 순서가 바뀌지 않습니다.
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Todo t " +
+		"SET t.weather = :weather, t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.RESOLVED " +
+		"WHERE t.id IN :todoIds " +
+		"AND t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+	int resolveWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather);
+
+	// 카운터는 읽고-쓰기 없이 원자적 증감으로만 바꿉니다. 벌크 UPDATE 라 modifiedAt 과 목록 순서는 그대로입니다.
+	@Modifying
+	@Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+	int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+	@Modifying
+	@Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+	int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+	@Modifying
+	@Query("UPDATE Todo t " +
+		"SET t.commentCount = t.commentCount + :commentDelta, t.managerCount = t.managerCount + :managerDelta " +
+		"WHERE t.id = :todoId")
+	int correctCounts(@Param("todoId") Long todoId, @Param("commentDelta") long commentDelta,
+		@Param("managerDelta") long managerDelta);
+
+	// 기록된 카운터와 실제 건수를 한 문장으로 읽어야 둘 사이에 다른 트랜잭션의 변경이 끼지 않습니다.
+	@Query("SELECT new org.example.expert.domain.todo.dto.TodoCounterRow(t.id, t.commentCount, " +
+		"(SELECT COUNT(c) FROM Comment c WHERE c.todo = t), t.managerCount, " +
+		"(SELECT COUNT(m) FROM Manager m WHERE m.todo = t)) " +
+		"FROM Todo t " +
+		"WHERE t.id > :lastId " +
+		"ORDER BY t.id")
+	List<TodoCounterRow> findCounterRows(@Param("lastId") Long lastId, Limit limit);
+
+	// CascadeType.REMOVE 로 댓글을 모두 읽어 한 건씩 지우지 않도록, 자식 행을 먼저 벌크 삭제한 뒤 호출합니다.
+	@Modifying
+	@Query("DELETE FROM Todo t WHERE t.id = :todoId")
+	int deleteTodoById(@Param("todoId") Long todoId);
 }
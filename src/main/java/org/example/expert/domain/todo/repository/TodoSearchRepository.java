@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.repository;
+
+import java.util.List;
+
+import org.example.expert.domain.common.cursor.Cursor;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+public interface TodoSearchRepository {
+
+	/**
+	 * 조건에 맞는 일정을 (modifiedAt DESC, id DESC) 순으로 limit 건 조회합니다. after 가 있으면 그 위치 다음부터 읽습니다.
+	 */
+	List<TodoResponse> search(TodoSearchCondition condition, Cursor after, int limit);
+}
@@ -0,0 +1,92 @@
+package org.example.expert.domain.todo.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.domain.common.cursor.Cursor;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoSearchTerm;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.util.StringUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건 조합마다 쿼리를 선언할 수 없어 Criteria API 로 WHERE 절을 조립합니다.
+ * 검색어는 todo_search_terms 의 (term, todo_id) 기본 키를 접두어 범위로 읽는 IN 서브쿼리가 되므로
+ * title/contents 에 LIKE '%...%' 를 거는 것과 달리 전체 일정을 훑지 않습니다.
+ */
+@RequiredArgsConstructor
+public class TodoSearchRepositoryImpl implements TodoSearchRepository {
+
+	private final EntityManager entityManager;
+
+	@Override
+	public List<TodoResponse> search(TodoSearchCondition condition, Cursor after, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<TodoResponse> query = cb.createQuery(TodoResponse.class);
+		Root<Todo> todo = query.from(Todo.class);
+		Join<Todo, User> user = todo.join("user");
+
+		List<Predicate> predicates = new ArrayList<>();
+		if (StringUtils.hasText(condition.getWeather())) {
+			predicates.add(cb.equal(todo.get("weather"), condition.getWeather()));
+		}
+		if (condition.getUserId() != null) {
+			predicates.add(cb.equal(user.get("id"), condition.getUserId()));
+		}
+		if (condition.getModifiedFrom() != null) {
+			predicates.add(cb.greaterThanOrEqualTo(todo.get("modifiedAt"), condition.getModifiedFrom()));
+		}
+		if (condition.getModifiedTo() != null) {
+			predicates.add(cb.lessThan(todo.get("modifiedAt"), condition.getModifiedTo()));
+		}
+		if (condition.getTerms() != null) {
+			for (String term : condition.getTerms()) {
+				Subquery<Long> matches = query.subquery(Long.class);
+				Root<TodoSearchTerm> searchTerm = matches.from(TodoSearchTerm.class);
+				matches.select(searchTerm.get("todoId"))
+					.where(
+						cb.greaterThanOrEqualTo(searchTerm.get("term"), term),
+						cb.lessThan(searchTerm.get("term"), prefixUpperBound(term))
+					);
+				predicates.add(todo.get("id").in(matches));
+			}
+		}
+		// (modifiedAt, id) keyset - TodoRepository.findNextTodoResponses 와 같은 조건입니다.
+		if (after != null) {
+			predicates.add(cb.lessThanOrEqualTo(todo.get("modifiedAt"), after.getTimestamp()));
+			predicates.add(cb.or(
+				cb.lessThan(todo.get("modifiedAt"), after.getTimestamp()),
+				cb.lessThan(todo.get("id"), after.getId())
+			));
+		}
+
+		query.select(cb.construct(TodoResponse.class,
+				todo.get("id"), todo.get("title"), todo.get("contents"), todo.get("weather"),
+				user.get("id"), user.get("email"), todo.get("createdAt"), todo.get("modifiedAt"),
+				todo.get("commentCount"), todo.get("managerCount")))
+			.where(predicates.toArray(Predicate[]::new))
+			.orderBy(cb.desc(todo.get("modifiedAt")), cb.desc(todo.get("id")));
+
+		return entityManager.createQuery(query)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	// LIKE 'term%' 는 바인드 파라미터일 때 인덱스 범위로 바뀌지 않는 DB(H2)가 있어 같은 뜻의 범위 조건으로 씁니다.
+	// 단어는 소문자 글자/숫자뿐이므로 마지막 글자를 하나 올린 값이 접두어 범위의 상한입니다.
+	private static String prefixUpperBound(String prefix) {
+		int last = prefix.length() - 1;
+		return prefix.substring(0, last) + (char)(prefix.charAt(last) + 1);
+	}
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.example.expert.domain.common.cache.CacheEvictions;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 단건 일정 조회(GET /todos/{todoId}) 결과를 todoId 기준으로 캐싱합니다.
+ * 일정을 바꾸는 쓰기 경로는 evict 로 엔트리를 무효화해야 합니다.
+ */
+@Component
+public class TodoCache {
+
+	private final boolean enabled;
+	private final Cache<Long, TodoResponse> cache;
+
+	public TodoCache(
+		@Value("${todo.cache.enabled:true}") boolean enabled,
+		@Value("${todo.cache.maximum-size:10000}") long maximumSize,
+		@Value("${todo.cache.ttl:PT5M}") Duration ttl
+	) {
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+	}
+
+	public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+		if (!enabled) {
+			return loader.apply(todoId);
+		}
+		return cache.get(todoId, loader);
+	}
+
+	public void evict(long todoId) {
+		CacheEvictions.evictNowAndAfterCommit(() -> cache.invalidate(todoId));
+	}
+
+	public void evictAll(Collection<Long> todoIds) {
+		CacheEvictions.evictNowAndAfterCommit(() -> cache.invalidateAll(todoIds));
+	}
+
+	public CacheStats getStats() {
+		return cache.stats();
+	}
+
+	public long getSize() {
+		return cache.estimatedSize();
+	}
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.domain.todo.dto.TodoCounterRow;
+import org.example.expert.domain.todo.dto.response.TodoCounterRebuildResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * todos 의 댓글/담당자 카운터를 실제 건수와 비교해 어긋난(drift) 일정을 찾고, 필요하면 바로잡습니다.
+ * <p>
+ * id 순 keyset 으로 chunk-size 건씩 읽고 chunk 마다 트랜잭션을 나누므로 긴 트랜잭션이나 테이블 잠금이 없습니다.
+ * 보정은 절대값이 아닌 차이만큼의 증감 UPDATE 라, 조회와 보정 사이에 커밋된 댓글/담당자 변경을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Service
+public class TodoCounterService {
+
+	private final TodoRepository todoRepository;
+	private final TodoCache todoCache;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public TodoCounterService(
+		TodoRepository todoRepository,
+		TodoCache todoCache,
+		PlatformTransactionManager transactionManager,
+		@Value("${todo.counter.chunk-size:1000}") int chunkSize
+	) {
+		this.todoRepository = todoRepository;
+		this.todoCache = todoCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+	}
+
+	public TodoCounterRebuildResponse detectDrift() {
+		return scan(false);
+	}
+
+	public TodoCounterRebuildResponse rebuild() {
+		return scan(true);
+	}
+
+	private TodoCounterRebuildResponse scan(boolean correct) {
+		long scannedCount = 0;
+		long driftedCount = 0;
+		long lastId = 0;
+
+		while (true) {
+			long afterId = lastId;
+			List<TodoCounterRow> rows = transactionTemplate.execute(status -> scanChunk(afterId, correct));
+			if (rows.isEmpty()) {
+				break;
+			}
+
+			for (TodoCounterRow row : rows) {
+				if (row.hasDrift()) {
+					driftedCount++;
+					log.warn("일정 카운터 불일치. todoId={}, comment={}/{}, manager={}/{}", row.todoId(),
+						row.commentCount(), row.actualCommentCount(), row.managerCount(), row.actualManagerCount());
+				}
+			}
+			scannedCount += rows.size();
+			lastId = rows.get(rows.size() - 1).todoId();
+		}
+
+		log.info("일정 카운터 점검 완료. corrected={}, scanned={}, drifted={}", correct, scannedCount, driftedCount);
+		return new TodoCounterRebuildResponse(correct, scannedCount, driftedCount);
+	}
+
+	private List<TodoCounterRow> scanChunk(long afterId, boolean correct) {
+		List<TodoCounterRow> rows = todoRepository.findCounterRows(afterId, Limit.of(chunkSize));
+		if (!correct) {
+			return rows;
+		}
+
+		List<Long> driftedIds = new ArrayList<>();
+		for (TodoCounterRow row : rows) {
+			if (row.hasDrift()) {
+				todoRepository.correctCounts(row.todoId(), row.commentDelta(), row.managerDelta());
+				driftedIds.add(row.todoId());
+			}
+		}
+		todoCache.evictAll(driftedIds);
+		return rows;
+	}
+}
@@ -0,0 +1,126 @@
+package org.example.expert.domain.todo.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.TodoCommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정 전체를 댓글/담당자와 함께 NDJSON(한 줄에 일정 하나)으로 내보냅니다.
+ * 일정은 forward-only 커서로 읽고, chunk-size 건마다 담당자를 IN 쿼리로 한 번에 가져와 쓴 뒤
+ * 영속성 컨텍스트를 비우므로 전체 건수와 상관없이 메모리 사용량이 chunk 크기로 제한됩니다.
+ * 댓글은 일정마다 수가 크게 다를 수 있어 chunk 단위로도 모으지 않고, (todo_id, id) 순서의 커서에서
+ * 일정 하나 분량씩 DTO 로 꺼내 씁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+	private final TodoRepository todoRepository;
+	private final CommentRepository commentRepository;
+	private final ManagerRepository managerRepository;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+
+	@Value("${todo.export.chunk-size:500}")
+	private int chunkSize;
+
+	@Transactional(readOnly = true)
+	public long exportTodos(OutputStream outputStream) throws IOException {
+		long exportedCount = 0;
+		SequenceWriter writer = objectMapper.writer()
+			.withRootValueSeparator("\n")
+			.writeValues(outputStream);
+
+		try (Stream<Todo> todos = todoRepository.streamAllWithUser()) {
+			Iterator<Todo> iterator = todos.iterator();
+			List<Todo> chunk = new ArrayList<>(chunkSize);
+			while (iterator.hasNext()) {
+				chunk.add(iterator.next());
+				if (chunk.size() == chunkSize || !iterator.hasNext()) {
+					writeChunk(writer, chunk);
+					exportedCount += chunk.size();
+					chunk.clear();
+					entityManager.clear();
+				}
+			}
+		}
+
+		// SequenceWriter 는 값 사이에만 구분자를 쓰므로 NDJSON 의 마지막 개행은 직접 붙입니다.
+		writer.flush();
+		if (exportedCount > 0) {
+			outputStream.write('\n');
+			outputStream.flush();
+		}
+		return exportedCount;
+	}
+
+	// chunk 는 일정 id 오름차순이므로(streamAllWithUser) 같은 순서로 읽는 댓글 커서와 나란히 진행합니다.
+	private void writeChunk(SequenceWriter writer, List<Todo> chunk) throws IOException {
+		List<Long> todoIds = chunk.stream().map(Todo::getId).toList();
+
+		Map<Long, List<ManagerResponse>> managersByTodoId = managerRepository.findAllByTodoIdInWithUser(todoIds)
+			.stream()
+			.collect(Collectors.groupingBy(
+				manager -> manager.getTodo().getId(),
+				Collectors.mapping(this::toManagerResponse, Collectors.toList())
+			));
+
+		try (Stream<TodoCommentResponse> comments = commentRepository.streamResponsesByTodoIdIn(todoIds)) {
+			Iterator<TodoCommentResponse> commentIterator = comments.iterator();
+			TodoCommentResponse nextComment = commentIterator.hasNext() ? commentIterator.next() : null;
+			for (Todo todo : chunk) {
+				List<CommentResponse> todoComments = new ArrayList<>();
+				while (nextComment != null && nextComment.getTodoId().equals(todo.getId())) {
+					todoComments.add(nextComment.getComment());
+					nextComment = commentIterator.hasNext() ? commentIterator.next() : null;
+				}
+				writer.write(new TodoExportResponse(
+					todo.getId(),
+					todo.getTitle(),
+					todo.getContents(),
+					todo.getWeather(),
+					toUserResponse(todo.getUser()),
+					todo.getCreatedAt(),
+					todo.getModifiedAt(),
+					todoComments,
+					managersByTodoId.getOrDefault(todo.getId(), List.of())
+				));
+			}
+		}
+		writer.flush();
+	}
+
+	private ManagerResponse toManagerResponse(Manager manager) {
+		return new ManagerResponse(manager.getId(), toUserResponse(manager.getUser()));
+	}
+
+	private UserResponse toUserResponse(User user) {
+		return new UserResponse(user.getId(), user.getEmail());
+	}
+}
@@ -0,0 +1,132 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoSearchTerm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 제목/내용의 역색인(todo_search_terms)을 관리합니다.
+ * <p>
+ * 글자/숫자가 아닌 문자로 나눈 단어를 소문자로 바꿔 저장합니다. 형태소 분석은 하지 않으므로 한국어 조사가 붙은
+ * 단어("회의를")는 검색 시 접두어 일치("회의")로 찾습니다. 일정 저장과 같은 트랜잭션에서 JDBC 배치로 기록되어
+ * 커밋된 일정은 바로 검색됩니다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndexer {
+
+	private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final String INSERT_SQL = "INSERT INTO todo_search_terms (term, todo_id) VALUES (?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public TodoSearchIndexer(
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${todo.search.rebuild-chunk-size:1000}") int chunkSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 검색어와 색인 모두 같은 규칙으로 나눠야 하므로 검색 쪽도 이 메서드를 씁니다.
+	 */
+	public static List<String> tokenize(String... texts) {
+		Set<String> terms = new LinkedHashSet<>();
+		for (String text : texts) {
+			if (text == null) {
+				continue;
+			}
+			for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+				if (!token.isEmpty()) {
+					terms.add(token.length() > TodoSearchTerm.MAX_TERM_LENGTH
+						? token.substring(0, TodoSearchTerm.MAX_TERM_LENGTH)
+						: token);
+				}
+			}
+		}
+		return new ArrayList<>(terms);
+	}
+
+	/**
+	 * 새로 저장한 일정을 색인합니다. id 가 할당된 뒤(save 이후)에 호출해야 합니다.
+	 */
+	public void index(Collection<Todo> todos) {
+		List<Object[]> rows = new ArrayList<>();
+		for (Todo todo : todos) {
+			for (String term : tokenize(todo.getTitle(), todo.getContents())) {
+				rows.add(new Object[] {term, todo.getId()});
+			}
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+	}
+
+	public void delete(long todoId) {
+		jdbcTemplate.update("DELETE FROM todo_search_terms WHERE todo_id = ?", todoId);
+	}
+
+	/**
+	 * 색인이 도입되기 전의 일정이나 어긋난 색인을 id 순 keyset 으로 chunk 마다 다시 만듭니다.
+	 * chunk 는 한 트랜잭션 안에서 읽고, 읽은 일정의 단어만 지우고 다시 넣습니다. 그 사이 다른 요청이 저장한 일정은
+	 * 스스로 색인하므로 id 가 chunk 구간 안에 있더라도 건드리지 않습니다.
+	 * 삭제된 일정의 남은 단어는 마지막에 일정이 없는 단어만 골라 지웁니다.
+	 */
+	public long rebuild() {
+		long indexedCount = 0;
+		long lastId = 0;
+		while (true) {
+			long fromId = lastId;
+			List<Object[]> todos = transactionTemplate.execute(status -> reindexChunk(fromId));
+			if (todos == null || todos.isEmpty()) {
+				break;
+			}
+			indexedCount += todos.size();
+			lastId = (Long)todos.get(todos.size() - 1)[0];
+		}
+		int orphanCount = jdbcTemplate.update("DELETE FROM todo_search_terms "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM todos t WHERE t.id = todo_search_terms.todo_id)");
+
+		log.info("일정 검색 색인을 다시 만들었습니다. indexed={}, orphanTerms={}", indexedCount, orphanCount);
+		return indexedCount;
+	}
+
+	private List<Object[]> reindexChunk(long fromId) {
+		List<Object[]> todos = jdbcTemplate.query(
+			"SELECT id, title, contents FROM todos WHERE id > ? ORDER BY id LIMIT ?",
+			(rs, rowNum) -> new Object[] {rs.getLong(1), rs.getString(2), rs.getString(3)},
+			fromId, chunkSize);
+		if (todos.isEmpty()) {
+			return todos;
+		}
+
+		List<Object[]> ids = new ArrayList<>(todos.size());
+		List<Object[]> rows = new ArrayList<>();
+		for (Object[] todo : todos) {
+			ids.add(new Object[] {todo[0]});
+			for (String term : tokenize((String)todo[1], (String)todo[2])) {
+				rows.add(new Object[] {term, todo[0]});
+			}
+		}
+		jdbcTemplate.batchUpdate("DELETE FROM todo_search_terms WHERE todo_id = ?", ids);
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+		return todos;
+	}
+}
@@ -2,8 +2,15 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cursor.Cursor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -11,11 +18,18 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +38,25 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCache todoCache;
+    private final TodoSearchIndexer todoSearchIndexer;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ManagerCache managerCache;
+
+    // 검색어 단어마다 역색인 서브쿼리가 하나씩 붙으므로 개수를 제한합니다.
+    @Value("${todo.search.max-terms:5}")
+    private int maxSearchTerms;
+
+    // true 면 날씨 조회 없이 바로 저장하고, TodoWeatherEnricher 가 나중에 날씨를 채웁니다.
+    @Value("${todo.weather.async-enrichment:false}")
+    private boolean asyncWeatherEnrichment;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = asyncWeatherEnrichment ? null : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,6 +65,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoSearchIndexer.index(List.of(savedTodo));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,23 +76,102 @@ public class TodoService {
         );
     }
 
+    // 날씨는 배치 전체에서 한 번만 조회하고, 일정과 담당자 INSERT 는 flush 시점에 JDBC 배치로 묶입니다.
+    @Transactional
+    public List<TodoSaveResponse> saveTodos(AuthUser authUser, TodoBulkSaveRequest todoBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+
+        String weather = asyncWeatherEnrichment ? null : weatherClient.getTodayWeather();
+
+        List<Todo> newTodos = todoBulkSaveRequest.getTodos().stream()
+                .map(request -> new Todo(request.getTitle(), request.getContents(), weather, user))
+                .toList();
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+        todoSearchIndexer.index(savedTodos);
+
+        return savedTodos.stream()
+                .map(todo -> new TodoSaveResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        weather,
+                        userResponse
+                ))
+                .toList();
+    }
+
+    // 댓글/담당자/검색어/일정을 일정 id 기준 벌크 DELETE 한 번씩으로 지우므로 댓글 수와 상관없이 엔티티를 읽지 않습니다.
+    // 쓰기 지연 큐에 남아 있던 이 일정의 댓글은 반영 시점에 일정이 없어 건너뜁니다.
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findUserIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 만든 유저만 일정을 삭제할 수 있습니다.");
+        }
+
+        commentRepository.deleteAllByTodoIdInBulk(todoId);
+        managerRepository.deleteAllByTodoIdInBulk(todoId);
+        todoSearchIndexer.delete(todoId);
+        todoRepository.deleteTodoById(todoId);
+
+        todoCache.evict(todoId);
+        managerCache.evict(todoId);
+    }
+
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findTodoResponses(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        CursorResponse.validateSize(size);
+
+        // 다음 페이지 존재 여부를 count 쿼리 없이 판단하기 위해 한 건 더 조회한다
+        Limit limit = Limit.of(size + 1);
+
+        List<TodoResponse> todos;
+        if (StringUtils.hasText(cursor)) {
+            Cursor position = Cursor.decode(cursor);
+            todos = todoRepository.findNextTodoResponses(position.getTimestamp(), position.getId(), limit);
+        } else {
+            todos = todoRepository.findTodoResponses(limit);
+        }
+
+        return CursorResponse.of(todos, size, todo -> new Cursor(todo.getModifiedAt(), todo.getId()));
+    }
+
+    // 기간은 수정일 기준으로 from, to 날짜를 모두 포함합니다.
+    public CursorResponse<TodoResponse> searchTodos(String weather, Long userId, LocalDate from, LocalDate to,
+                                                    String keyword, String cursor, int size) {
+        CursorResponse.validateSize(size);
+        List<String> terms = StringUtils.hasText(keyword) ? TodoSearchIndexer.tokenize(keyword) : List.of();
+        if (terms.size() > maxSearchTerms) {
+            throw new InvalidRequestException("검색어는 최대 " + maxSearchTerms + "개 단어까지 입력할 수 있습니다.");
+        }
+
+        TodoSearchCondition condition = new TodoSearchCondition(
+                weather,
+                userId,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(),
+                terms
+        );
+        Cursor after = StringUtils.hasText(cursor) ? Cursor.decode(cursor) : null;
+
+        List<TodoResponse> todos = todoRepository.search(condition, after, size + 1);
+
+        return CursorResponse.of(todos, size, todo -> new Cursor(todo.getModifiedAt(), todo.getId()));
     }
 
     public TodoResponse getTodo(long todoId) {
+        return todoCache.get(todoId, this::loadTodo);
+    }
+
+    private TodoResponse loadTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
@@ -77,7 +184,9 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
         );
     }
 }
@@ -0,0 +1,118 @@
+package org.example.expert.domain.todo.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoWeatherEnrichmentResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 날씨 없이(PENDING) 저장된 일정의 날씨를 백그라운드에서 배치로 채웁니다.
+ * 조회와 UPDATE 가 각각 짧은 트랜잭션으로 실행되므로 날씨 조회 중에 DB 커넥션을 점유하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoWeatherEnricher {
+
+	private final TodoRepository todoRepository;
+	private final WeatherClient weatherClient;
+	private final TodoCache todoCache;
+
+	private final AtomicLong enrichedCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+	private volatile long lastLagMillis;
+	private volatile LocalDateTime lastRunAt;
+
+	@Value("${todo.weather.async-enrichment:false}")
+	private boolean enabled;
+
+	@Value("${todo.weather.enrichment.batch-size:500}")
+	private int batchSize;
+
+	@Scheduled(fixedDelayString = "${todo.weather.enrichment.interval:PT5S}")
+	public void enrichPendingTodos() {
+		if (!enabled) {
+			return;
+		}
+
+		long lastId = 0L;
+		List<Todo> pendingTodos;
+		do {
+			pendingTodos = todoRepository.findByWeatherStatusAndIdGreaterThanOrderByIdAsc(
+				WeatherStatus.PENDING, lastId, Limit.of(batchSize));
+			if (pendingTodos.isEmpty()) {
+				break;
+			}
+
+			enrich(pendingTodos);
+			lastId = pendingTodos.get(pendingTodos.size() - 1).getId();
+		} while (pendingTodos.size() == batchSize);
+
+		lastRunAt = LocalDateTime.now();
+	}
+
+	public TodoWeatherEnrichmentResponse getStatistics() {
+		return new TodoWeatherEnrichmentResponse(
+			enabled,
+			todoRepository.countByWeatherStatus(WeatherStatus.PENDING),
+			enrichedCount.get(),
+			failureCount.get(),
+			lastLagMillis,
+			lastRunAt
+		);
+	}
+
+	public long getEnrichedCount() {
+		return enrichedCount.get();
+	}
+
+	public long getFailureCount() {
+		return failureCount.get();
+	}
+
+	public long getLastLagMillis() {
+		return lastLagMillis;
+	}
+
+	// 날씨는 작성일(MM-dd) 기준이므로 작성일별로 묶어서 한 번씩만 조회합니다.
+	private void enrich(List<Todo> pendingTodos) {
+		Map<LocalDate, List<Todo>> todosByDate = pendingTodos.stream()
+			.collect(Collectors.groupingBy(todo -> todo.getCreatedAt().toLocalDate()));
+
+		todosByDate.forEach((date, todos) -> {
+			List<Long> todoIds = todos.stream().map(Todo::getId).toList();
+			try {
+				String weather = weatherClient.getWeather(date);
+				enrichedCount.addAndGet(todoRepository.resolveWeather(todoIds, weather));
+				todoCache.evictAll(todoIds);
+
+				LocalDateTime oldestCreatedAt = todos.stream()
+					.map(Todo::getCreatedAt)
+					.min(Comparator.naturalOrder())
+					.orElseThrow();
+				lastLagMillis = Duration.between(oldestCreatedAt, LocalDateTime.now()).toMillis();
+			} catch (ServerException e) {
+				failureCount.addAndGet(todoIds.size());
+				log.warn("일정 날씨 채우기에 실패했습니다. date={}, count={}, cause={}", date, todoIds.size(), e.getMessage());
+			}
+		});
+	}
+}
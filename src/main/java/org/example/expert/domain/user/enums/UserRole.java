@@ -3,14 +3,22 @@ package org.example.expert.domain.user.enums;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum UserRole {
     ADMIN, USER;
 
+    private static final Map<String, UserRole> ROLES_BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        UserRole userRole = role == null ? null : ROLES_BY_NAME.get(role.toUpperCase(Locale.ROOT));
+        if (userRole == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+        return userRole;
     }
 }
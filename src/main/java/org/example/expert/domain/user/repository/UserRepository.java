@@ -1,11 +1,37 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.id = :userId")
+    Optional<String> findEmailById(@Param("userId") Long userId);
+
+    // 엔티티를 만들지 않고 이메일만 커서로 읽습니다. 트랜잭션 안에서 호출하고 다 쓰면 닫아야 합니다.
+    // fetch size 가 없으면 드라이버에 따라 결과 전체를 한 번에 받아 오므로 TodoRepository.streamAllWithUser 와 같이 지정합니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    // 읽은 뒤 비밀번호가 바뀌었으면(다른 요청의 비밀번호 변경 등) 0 을 반환하고 덮어쓰지 않습니다.
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
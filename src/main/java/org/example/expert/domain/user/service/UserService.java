@@ -7,16 +7,26 @@ import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
-import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final TransactionTemplate transactionTemplate;
+
+	public UserService(
+		UserRepository userRepository,
+		PasswordEncoder passwordEncoder,
+		PlatformTransactionManager transactionManager
+	) {
+		this.userRepository = userRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
 
 	@Transactional(readOnly = true)
 	public UserResponse getUser(long userId) {
@@ -24,19 +34,36 @@ public class UserService {
 		return new UserResponse(user.getId(), user.getEmail());
 	}
 
-	@Transactional
+	// BCrypt 계산은 기존 비밀번호 검증 1 회와 새 비밀번호 해싱 1 회뿐입니다.
+	// 기존 비밀번호가 저장된 해시와 일치한 뒤라면 "새 비밀번호가 저장된 해시와 일치"는 "새 비밀번호 == 기존 비밀번호"와 같으므로
+	// 해시 검증 대신 문자열 비교로 판단합니다. BCrypt 가 잘라 쓰는 길이를 넘는 비밀번호는 미리 거절해 둘이 항상 같은 결과가 됩니다.
+	// BCrypt 는 해싱 풀에서 최대 수 초를 기다릴 수 있으므로 트랜잭션 밖에서 계산하고, 읽기와 쓰기는 각각 짧은 트랜잭션으로 합니다.
+	// 그 사이 다른 요청이 비밀번호를 바꿨다면 검증한 해시가 더 이상 저장된 값이 아니므로 덮어쓰지 않습니다.
 	public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new InvalidRequestException("User not found"));
+		String oldPassword = userChangePasswordRequest.getOldPassword();
+		String newPassword = userChangePasswordRequest.getNewPassword();
 
-		if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+		if (newPassword.equals(oldPassword)) {
 			throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
 		}
 
-		if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+		if (PasswordEncoder.isTooLong(newPassword)) {
+			throw new InvalidRequestException(
+				"비밀번호는 " + PasswordEncoder.MAX_PASSWORD_BYTES + "바이트를 넘을 수 없습니다.");
+		}
+
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new InvalidRequestException("User not found"));
+
+		if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
 			throw new InvalidRequestException("잘못된 비밀번호입니다.");
 		}
 
-		user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+		String encodedPassword = passwordEncoder.encode(newPassword);
+		Integer updated = transactionTemplate.execute(
+			status -> userRepository.updatePasswordIfUnchanged(userId, user.getPassword(), encodedPassword));
+		if (updated == null || updated == 0) {
+			throw new InvalidRequestException("비밀번호가 다른 요청에서 변경되었습니다. 다시 시도해 주세요.");
+		}
 	}
 }
@@ -0,0 +1,67 @@
+package org.example.expert.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * 통합 벤치마크용 간단한 측정 도구.
+ * warmup 이후 iterations 번 실행한 결과의 중앙값/p95 를 출력한다.
+ */
+public final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	public static Result measure(String name, int warmup, int iterations, Runnable task) {
+		for (int i = 0; i < warmup; i++) {
+			task.run();
+		}
+
+		long[] samples = new long[iterations];
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			task.run();
+			samples[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(samples);
+
+		Result result = new Result(name, samples[iterations / 2], samples[(int)Math.ceil(iterations * 0.95) - 1]);
+		System.out.println(result);
+		return result;
+	}
+
+	public static <T> T timed(String name, Supplier<T> task) {
+		long start = System.nanoTime();
+		T value = task.get();
+		System.out.printf("%-50s %10.2f ms%n", name, (System.nanoTime() - start) / 1_000_000.0);
+		return value;
+	}
+
+	// 현재 스레드가 task 한 번에 할당한 평균 바이트 수 (HotSpot 의 스레드별 할당 카운터 사용)
+	public static long allocatedBytesPerOp(String name, int iterations, Runnable task) {
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			task.run();
+		}
+		long bytesPerOp = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+		System.out.printf("%-50s %10.1f KB/op%n", name, bytesPerOp / 1024.0);
+		return bytesPerOp;
+	}
+
+	public record Result(String name, long medianNanos, long p95Nanos) {
+
+		public double medianMillis() {
+			return medianNanos / 1_000_000.0;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-50s median %10.3f ms   p95 %10.3f ms", name, medianMillis(), p95Nanos / 1_000_000.0);
+		}
+	}
+}
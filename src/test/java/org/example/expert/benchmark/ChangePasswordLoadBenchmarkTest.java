@@ -0,0 +1,143 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashingExecutor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.metrics.service.MetricsRegistry;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비밀번호 변경(PUT /users)을 여러 클라이언트 스레드가 동시에 보낼 때의 처리량(requests/sec)과 코어당 처리량.
+ * 이전 흐름(새 비밀번호 검증 + 기존 비밀번호 검증 + 해싱 = BCrypt 3 회)과 현재 UserService.changePassword(검증 1 회 + 해싱 1 회)를 비교한다.
+ * 각 스레드는 자기 사용자의 비밀번호를 두 값 사이에서 번갈아 바꾸므로 모든 요청이 성공 경로를 탄다.
+ * ./gradlew benchmark --tests '*ChangePasswordLoadBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = {
+	"password.bcrypt.cost=8",
+	"password.hashing.timeout=PT30S"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserService.class, PasswordEncoder.class, PasswordHashingExecutor.class, MetricsRegistry.class})
+@DisplayName("비밀번호 변경 부하 벤치마크")
+class ChangePasswordLoadBenchmarkTest {
+
+	private static final int CLIENT_THREADS = 4;
+	private static final long WARMUP_MILLIS = 3_000;
+	private static final long MEASURE_MILLIS = 10_000;
+	private static final String[] PASSWORDS = {"Password1", "Password2"};
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void change_password_throughput() throws InterruptedException {
+		List<Long> userIds = new ArrayList<>(CLIENT_THREADS);
+		for (int i = 0; i < CLIENT_THREADS; i++) {
+			userIds.add(userRepository.save(
+				new User("bench" + i + "@test.com", passwordEncoder.encode(PASSWORDS[0]), UserRole.USER)).getId());
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		ChangePassword legacy = (userId, request) -> transactionTemplate.executeWithoutResult(
+			status -> legacyChangePassword(userId, request));
+		ChangePassword current = userService::changePassword;
+
+		run("legacy (verify x2 + hash)", legacy, userIds, WARMUP_MILLIS);
+		double legacyPerSecond = run("legacy (verify x2 + hash)", legacy, userIds, MEASURE_MILLIS);
+		run("current (verify + hash)", current, userIds, WARMUP_MILLIS);
+		double currentPerSecond = run("current (verify + hash)", current, userIds, MEASURE_MILLIS);
+
+		System.out.printf("speedup %.2fx%n", currentPerSecond / legacyPerSecond);
+		assertTrue(currentPerSecond > legacyPerSecond);
+	}
+
+	// 이 변경 이전의 UserService.changePassword 와 같은 흐름
+	private void legacyChangePassword(long userId, UserChangePasswordRequest request) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new InvalidRequestException("User not found"));
+
+		if (passwordEncoder.matches(request.getNewPassword(), user.getPassword())) {
+			throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+		}
+
+		if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
+			throw new InvalidRequestException("잘못된 비밀번호입니다.");
+		}
+
+		user.changePassword(passwordEncoder.encode(request.getNewPassword()));
+	}
+
+	// 스레드마다 자기 사용자의 비밀번호를 durationMillis 동안 바꾸고, 성공한 요청 수로 초당 처리량을 계산한다
+	private double run(String label, ChangePassword changePassword, List<Long> userIds, long durationMillis)
+		throws InterruptedException {
+		AtomicLong completed = new AtomicLong();
+		CountDownLatch done = new CountDownLatch(userIds.size());
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+		long start = System.nanoTime();
+		for (Long userId : userIds) {
+			Thread client = new Thread(() -> {
+				try {
+					// 이전 실행이 끝난 시점의 비밀번호를 알 수 없으므로 두 값 중 맞는 쪽부터 시작한다
+					int current = passwordEncoder.matches(PASSWORDS[0],
+						userRepository.findById(userId).orElseThrow().getPassword()) ? 0 : 1;
+					while (System.nanoTime() < deadline) {
+						changePassword.change(userId, new UserChangePasswordRequest(PASSWORDS[current], PASSWORDS[1 - current]));
+						current = 1 - current;
+						completed.incrementAndGet();
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+			client.start();
+		}
+		assertTrue(done.await(durationMillis + 60_000, TimeUnit.MILLISECONDS));
+		double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		double perSecond = completed.get() / elapsedSeconds;
+		System.out.printf("%-30s %8.1f req/s   %8.1f req/s/core (%d cores, %d clients, %.1f s)%n",
+			label, perSecond, perSecond / cores, cores, userIds.size(), elapsedSeconds);
+		return perSecond;
+	}
+
+	@FunctionalInterface
+	private interface ChangePassword {
+		void change(long userId, UserChangePasswordRequest request);
+	}
+}
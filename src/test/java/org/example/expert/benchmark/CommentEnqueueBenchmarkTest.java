@@ -0,0 +1,89 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.example.expert.domain.comment.service.CommentWriteBehindQueue;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.entity.PooledIdAllocator;
+import org.example.expert.domain.common.entity.PooledIdSeeder;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 쓰기 지연 댓글의 동시 enqueue 처리량 - fsync 를 켠 상태에서 스레드 수에 따라 group commit 이 fsync 를 얼마나 묶는지 본다.
+ * 레코드마다 fsync 하면 스레드를 늘려도 처리량이 1/fsync 지연에서 멈춘다.
+ * ./gradlew benchmark --tests '*CommentEnqueueBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({CommentWriteBehindQueue.class, PooledIdAllocator.class, PooledIdSeeder.class, TodoCache.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("댓글 쓰기 지연 enqueue 벤치마크")
+class CommentEnqueueBenchmarkTest {
+
+	private static final int ENQUEUES = 2_048;
+	private static final AuthUser AUTH_USER = new AuthUser(1L, "bench@test.com", UserRole.USER);
+
+	@Autowired
+	private CommentWriteBehindQueue commentWriteBehindQueue;
+
+	@DynamicPropertySource
+	static void writeBehindProperties(DynamicPropertyRegistry registry) throws IOException {
+		String directory = Files.createTempDirectory("comment-queue-bench").toString();
+		registry.add("comment.write-behind.enabled", () -> "true");
+		registry.add("comment.write-behind.fsync", () -> "true");
+		registry.add("comment.write-behind.directory", () -> directory);
+		// 반영 스케줄러 없이 쌓기만 하므로 거절되지 않도록 넉넉히 둔다.
+		registry.add("comment.write-behind.max-pending", () -> "1000000");
+	}
+
+	@Test
+	void concurrent_enqueue_with_fsync() throws Exception {
+		for (int threads : new int[] {1, 4, 16, 64}) {
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			BenchmarkSupport.Result result = BenchmarkSupport.measure(
+				"enqueue x " + ENQUEUES + " (" + threads + " threads)", 1, 5, () -> enqueueConcurrently(executor, threads));
+			executor.shutdown();
+			System.out.printf("%-50s %10.0f comments/s%n", result.name(),
+				ENQUEUES / (result.medianNanos() / 1_000_000_000.0));
+		}
+		assertEquals(ENQUEUES * 4 * 6, commentWriteBehindQueue.getPendingCount());
+	}
+
+	private void enqueueConcurrently(ExecutorService executor, int threads) {
+		List<Future<?>> futures = new ArrayList<>(threads);
+		for (int thread = 0; thread < threads; thread++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < ENQUEUES / threads; i++) {
+					commentWriteBehindQueue.enqueue(AUTH_USER, 1L, "comment");
+				}
+			}));
+		}
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
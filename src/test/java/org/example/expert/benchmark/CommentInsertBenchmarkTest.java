@@ -0,0 +1,103 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentWriteBehindQueue;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.entity.PooledIdAllocator;
+import org.example.expert.domain.common.entity.PooledIdSeeder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 등록 처리량 비교 - Todo 를 findById 로 읽어 붙이던 기존 경로와 existsById + getReferenceById 경로.
+ * 각 등록이 실제로 커밋되도록 테스트 트랜잭션은 끈다.
+ * ./gradlew benchmark --tests '*CommentInsertBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({CommentService.class, CommentWriteBehindQueue.class, PooledIdAllocator.class, PooledIdSeeder.class, TodoCache.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("댓글 등록 벤치마크")
+class CommentInsertBenchmarkTest {
+
+	private static final int INSERTS = 2_000;
+	private static final AuthUser AUTH_USER = new AuthUser(1L, "bench@test.com", UserRole.USER);
+	private static final CommentSaveRequest REQUEST = new CommentSaveRequest("comment");
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void find_by_id_vs_reference() {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(
+			"INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (1, 'bench@test.com', 'pw', 'USER', ?, ?)",
+			now, now);
+		jdbcTemplate.update(
+			"INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (1, 'title', 'contents', 'Sunny', 1, ?, ?)",
+			now, now);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		BenchmarkSupport.Result findById = BenchmarkSupport.measure("findById + save x " + INSERTS, 2, 10,
+			() -> {
+				for (int i = 0; i < INSERTS; i++) {
+					transactionTemplate.executeWithoutResult(status -> saveWithFindById());
+				}
+			});
+		BenchmarkSupport.Result reference = BenchmarkSupport.measure("existsById + reference x " + INSERTS, 2, 10,
+			() -> {
+				for (int i = 0; i < INSERTS; i++) {
+					commentService.saveComment(AUTH_USER, 1L, REQUEST);
+				}
+			});
+
+		printThroughput(findById);
+		printThroughput(reference);
+		assertThrows(InvalidRequestException.class, () -> commentService.saveComment(AUTH_USER, 2L, REQUEST));
+	}
+
+	// 변경 전 CommentService.saveComment 와 같은 경로
+	private void saveWithFindById() {
+		Todo todo = todoRepository.findById(1L).orElseThrow(() -> new InvalidRequestException("Todo not found"));
+		commentRepository.save(new Comment(REQUEST.getContents(), User.fromAuthUser(AUTH_USER), todo));
+	}
+
+	private void printThroughput(BenchmarkSupport.Result result) {
+		System.out.printf("%-50s %10.0f comments/s%n", result.name(), INSERTS / (result.medianNanos() / 1_000_000_000.0));
+	}
+}
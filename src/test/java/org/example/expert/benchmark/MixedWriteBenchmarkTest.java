@@ -0,0 +1,217 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 요청 하나가 트랜잭션 하나인 쓰기 트래픽(가입, 일정 단건/20 건 저장, 댓글 5 건, 일정 20 건 수정)을 섞어 돌리며
+ * DB 왕복 횟수(JDBC execute/executeBatch 호출 수)와 Hibernate 통계를 설정별로 비교한다.
+ * 배치를 끈 경우는 IDENTITY 와 같이 행마다 한 번씩 왕복하는 기준선이다.
+ * 테스트용 내장 DataSource 는 커넥션 풀이 없어 트랜잭션마다 커넥션을 새로 열므로, 운영과 같은 Hikari 풀(인메모리 H2)을 쓴다.
+ * 인메모리 H2 는 네트워크 왕복이 없으므로, 실제 DB 기준 시간은 왕복 수 x NETWORK_RTT_MILLIS 를 더한 추정치로 함께 출력한다.
+ * ./gradlew benchmark --tests '*MixedWriteBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"spring.jpa.properties.hibernate.session.events.log=false"
+})
+@Import({PersistenceConfig.class, MixedWriteBenchmarkTest.RoundTripCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("혼합 쓰기 트래픽 벤치마크")
+class MixedWriteBenchmarkTest {
+
+	private static final int WARMUP_ROUNDS = 1_000;
+	private static final int ROUNDS = 1_000;
+	private static final int BULK_TODO_COUNT = 20;
+	private static final int COMMENT_COUNT = 5;
+	private static final double NETWORK_RTT_MILLIS = 0.5;
+
+	@Nested
+	@TestPropertySource(properties = "persistence.jdbc.batch-size=1")
+	@DisplayName("배치 끔 (행마다 왕복, IDENTITY 기준선)")
+	class BatchingDisabled extends Scenario {
+	}
+
+	@Nested
+	@TestPropertySource(properties = "persistence.id.strategy=sequence")
+	@DisplayName("pooled 시퀀스 + 배치")
+	class SequenceBatching extends Scenario {
+	}
+
+	@Nested
+	@TestPropertySource(properties = "persistence.id.strategy=table")
+	@DisplayName("테이블 hi/lo + 배치")
+	class TableBatching extends Scenario {
+	}
+
+	abstract class Scenario {
+
+		@Autowired
+		private UserRepository userRepository;
+
+		@Autowired
+		private TodoRepository todoRepository;
+
+		@Autowired
+		private CommentRepository commentRepository;
+
+		@Autowired
+		private PlatformTransactionManager transactionManager;
+
+		@Autowired
+		private EntityManagerFactory entityManagerFactory;
+
+		@Autowired
+		private RoundTripCounter roundTripCounter;
+
+		@Test
+		void mixed_write_traffic() {
+			TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			String label = getClass().getAnnotation(DisplayName.class).value();
+
+			for (int round = 0; round < WARMUP_ROUNDS; round++) {
+				runRound(transactionTemplate, "warmup" + round);
+			}
+			long todosBefore = todoRepository.count();
+			roundTripCounter.reset();
+			statistics.clear();
+
+			long start = System.nanoTime();
+			for (int round = 0; round < ROUNDS; round++) {
+				runRound(transactionTemplate, "round" + round);
+			}
+			double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+			assertEquals((long)ROUNDS * (1 + BULK_TODO_COUNT), todoRepository.count() - todosBefore);
+			double roundTrips = (double)roundTripCounter.get() / ROUNDS;
+			System.out.printf("%-40s %6.1f round trips   %6.1f prepared   %6.1f rows   %8.3f ms (H2)   %8.3f ms (+%.1f ms RTT) per round%n",
+				label,
+				roundTrips,
+				(double)statistics.getPrepareStatementCount() / ROUNDS,
+				(double)(statistics.getEntityInsertCount() + statistics.getEntityUpdateCount()) / ROUNDS,
+				elapsedMillis / ROUNDS,
+				elapsedMillis / ROUNDS + roundTrips * NETWORK_RTT_MILLIS,
+				NETWORK_RTT_MILLIS);
+		}
+
+		private void runRound(TransactionTemplate transactionTemplate, String key) {
+			User user = transactionTemplate.execute(status ->
+				userRepository.save(new User(key + "@test.com", "pw", UserRole.USER)));
+
+			Todo todo = transactionTemplate.execute(status ->
+				todoRepository.save(new Todo("title", "contents", "Sunny", user)));
+
+			List<Long> bulkIds = transactionTemplate.execute(status -> {
+				List<Todo> todos = new ArrayList<>(BULK_TODO_COUNT);
+				for (int i = 0; i < BULK_TODO_COUNT; i++) {
+					todos.add(new Todo("bulk " + i, "contents", "Sunny", user));
+				}
+				return todoRepository.saveAll(todos).stream().map(Todo::getId).toList();
+			});
+
+			for (int i = 0; i < COMMENT_COUNT; i++) {
+				transactionTemplate.executeWithoutResult(status ->
+					commentRepository.save(new Comment("comment", user, todo)));
+			}
+
+			transactionTemplate.executeWithoutResult(status ->
+				todoRepository.findAllById(bulkIds).forEach(bulk -> bulk.update("edited", "edited contents")));
+		}
+	}
+
+	/**
+	 * DataSource 를 감싸 Statement 의 execute* 호출(= DB 왕복) 수를 센다. executeBatch 는 묶인 행 수와 상관없이 한 번이다.
+	 */
+	static class RoundTripCounter implements BeanPostProcessor {
+
+		private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+			"executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+		private final AtomicLong roundTrips = new AtomicLong();
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (bean instanceof DataSource dataSource) {
+				return proxy(DataSource.class, dataSource);
+			}
+			return bean;
+		}
+
+		long get() {
+			return roundTrips.get();
+		}
+
+		void reset() {
+			roundTrips.set(0);
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> T proxy(Class<T> type, T target) {
+			InvocationHandler handler = (proxy, method, args) -> {
+				if (target instanceof Statement && EXECUTE_METHODS.contains(method.getName())) {
+					roundTrips.incrementAndGet();
+				}
+				Object result = invoke(method, target, args);
+				if (result instanceof Connection connection) {
+					return proxy(Connection.class, connection);
+				}
+				if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+					return proxy((Class<Statement>)method.getReturnType(), statement);
+				}
+				return result;
+			};
+			return (T)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, handler);
+		}
+
+		private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentWriteBehindQueue;
+import org.example.expert.domain.common.entity.PooledIdAllocator;
+import org.example.expert.domain.common.entity.PooledIdSeeder;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.todo.service.TodoSearchIndexer;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 목록 조회를 JOIN FETCH 엔티티 + 필드 복사로 할 때와 DTO 생성자 projection 으로 할 때의 지연시간/할당량 비교.
+ * 엔티티 경로는 projection 으로 바꾸기 전의 쿼리를 EntityManager 로 그대로 실행한다.
+ * ./gradlew benchmark --tests '*ReadPathProjectionBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({TodoService.class, TodoCache.class, TodoSearchIndexer.class, ManagerCache.class, CommentService.class,
+	CommentWriteBehindQueue.class, PooledIdAllocator.class, PooledIdSeeder.class, JacksonAutoConfiguration.class})
+@DisplayName("목록 조회 DTO projection 벤치마크")
+class ReadPathProjectionBenchmarkTest {
+
+	private static final int TODO_COUNT = 10_000;
+	private static final int PAGE_SIZE = 100;
+	private static final int COMMENT_COUNT = 20_000;
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	void entity_vs_projection() {
+		seed();
+
+		assertEquals(
+			todosByEntity().stream().map(TodoResponse::getId).toList(),
+			todoService.getTodos(1, PAGE_SIZE).getContent().stream().map(TodoResponse::getId).toList()
+		);
+		assertEquals(COMMENT_COUNT, commentService.getComments(1L).size());
+
+		BenchmarkSupport.measure("todos page(" + PAGE_SIZE + ") entity", 20, 100, () -> clearing(this::todosByEntity));
+		BenchmarkSupport.measure("todos page(" + PAGE_SIZE + ") projection", 20, 100,
+			() -> clearing(() -> todoService.getTodos(1, PAGE_SIZE)));
+		BenchmarkSupport.measure("comments(" + COMMENT_COUNT + ") entity", 3, 20, () -> clearing(this::commentsByEntity));
+		BenchmarkSupport.measure("comments(" + COMMENT_COUNT + ") projection", 3, 20,
+			() -> clearing(() -> commentService.getComments(1L)));
+
+		BenchmarkSupport.allocatedBytesPerOp("todos page(" + PAGE_SIZE + ") entity", 50, () -> clearing(this::todosByEntity));
+		BenchmarkSupport.allocatedBytesPerOp("todos page(" + PAGE_SIZE + ") projection", 50,
+			() -> clearing(() -> todoService.getTodos(1, PAGE_SIZE)));
+		BenchmarkSupport.allocatedBytesPerOp("comments(" + COMMENT_COUNT + ") entity", 10, () -> clearing(this::commentsByEntity));
+		BenchmarkSupport.allocatedBytesPerOp("comments(" + COMMENT_COUNT + ") projection", 10,
+			() -> clearing(() -> commentService.getComments(1L)));
+	}
+
+	private List<TodoResponse> todosByEntity() {
+		return entityManager.createQuery(
+				"SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC", Todo.class)
+			.setMaxResults(PAGE_SIZE)
+			.getResultList()
+			.stream()
+			.map(todo -> new TodoResponse(
+				todo.getId(),
+				todo.getTitle(),
+				todo.getContents(),
+				todo.getWeather(),
+				new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+				todo.getCreatedAt(),
+				todo.getModifiedAt(),
+				todo.getCommentCount(),
+				todo.getManagerCount()
+			))
+			.toList();
+	}
+
+	private List<CommentResponse> commentsByEntity() {
+		return entityManager.createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+			.setParameter("todoId", 1L)
+			.getResultList()
+			.stream()
+			.map(comment -> new CommentResponse(
+				comment.getId(),
+				comment.getContents(),
+				new UserResponse(comment.getUser().getId(), comment.getUser().getEmail()),
+				comment.getCreatedAt()
+			))
+			.toList();
+	}
+
+	private void clearing(Runnable query) {
+		query.run();
+		entityManager.clear();
+	}
+
+	private void seed() {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(
+			"INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (1, 'bench@test.com', 'pw', 'USER', ?, ?)",
+			now, now);
+
+		List<Object[]> todos = new ArrayList<>(TODO_COUNT);
+		for (int i = 1; i <= TODO_COUNT; i++) {
+			Timestamp modifiedAt = Timestamp.valueOf(now.minusSeconds(TODO_COUNT - i));
+			todos.add(new Object[] {i, "title " + i, "contents " + i, "Sunny", 1L, modifiedAt, modifiedAt});
+		}
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+			todos);
+
+		List<Object[]> comments = new ArrayList<>(COMMENT_COUNT);
+		for (int i = 1; i <= COMMENT_COUNT; i++) {
+			Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(COMMENT_COUNT - i));
+			comments.add(new Object[] {i, "comment " + i, 1L, 1L, createdAt, createdAt});
+		}
+		BenchmarkSupport.timed("seed " + TODO_COUNT + " todos, " + COMMENT_COUNT + " comments", () -> jdbcTemplate.batchUpdate(
+			"INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+			comments));
+	}
+}
@@ -0,0 +1,100 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.todo.service.TodoSearchIndexer;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 일정 500건을 POST /todos 로 한 건씩 저장할 때와 POST /todos/bulk 로 한 번에 저장할 때의 처리량 비교.
+ * 각 호출이 실제로 커밋되도록 테스트 트랜잭션은 끈다.
+ * ./gradlew benchmark --tests '*TodoBulkInsertBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TodoService.class, TodoCache.class, TodoSearchIndexer.class, ManagerCache.class,
+	PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Todo 일괄 등록 벤치마크")
+class TodoBulkInsertBenchmarkTest {
+
+	private static final int BATCH_SIZE = 500;
+	private static final AuthUser AUTH_USER = new AuthUser(1L, "bench@test.com", UserRole.USER);
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	void single_vs_bulk() {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(
+			"INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (1, 'bench@test.com', 'pw', 'USER', ?, ?)",
+			now, now);
+		given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+		List<TodoSaveRequest> requests = IntStream.range(0, BATCH_SIZE)
+			.mapToObj(i -> new TodoSaveRequest("title " + i, "contents " + i))
+			.toList();
+		TodoBulkSaveRequest bulkRequest = new TodoBulkSaveRequest(requests);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		BenchmarkSupport.Result single = BenchmarkSupport.measure("single insert x " + BATCH_SIZE, 2, 10,
+			() -> requests.forEach(request -> todoService.saveTodo(AUTH_USER, request)));
+		BenchmarkSupport.Result bulk = BenchmarkSupport.measure("bulk insert x " + BATCH_SIZE, 2, 10,
+			() -> todoService.saveTodos(AUTH_USER, bulkRequest));
+
+		printThroughput(single);
+		printThroughput(bulk);
+
+		statistics.clear();
+		todoService.saveTodos(AUTH_USER, bulkRequest);
+		System.out.printf("bulk: %d statements prepared for %d todos + %d managers%n",
+			statistics.getPrepareStatementCount(), BATCH_SIZE, BATCH_SIZE);
+
+		assertEquals(BATCH_SIZE * 25L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class));
+		verify(weatherClient, times(BATCH_SIZE * 12 + 13)).getTodayWeather();
+	}
+
+	private void printThroughput(BenchmarkSupport.Result result) {
+		System.out.printf("%-50s %10.0f todos/s%n", result.name(), BATCH_SIZE / (result.medianNanos() / 1_000_000_000.0));
+	}
+}
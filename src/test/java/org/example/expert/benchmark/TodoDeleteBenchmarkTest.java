@@ -0,0 +1,122 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.todo.service.TodoSearchIndexer;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 10 / 1,000 / 100,000 건이 달린 일정 삭제 - Todo.comments 의 CascadeType.REMOVE 로 지우는 기존 방식과
+ * TodoService.deleteTodo 의 벌크 DELETE 방식의 지연시간/할당량 비교.
+ * 각 삭제가 실제로 커밋되도록 테스트 트랜잭션은 끈다.
+ * ./gradlew benchmark --tests '*TodoDeleteBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@Import({TodoService.class, TodoCache.class, TodoSearchIndexer.class, ManagerCache.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Todo 삭제 벤치마크")
+class TodoDeleteBenchmarkTest {
+
+	private static final AuthUser AUTH_USER = new AuthUser(1L, "bench@test.com", UserRole.USER);
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@MockBean
+	private WeatherClient weatherClient;
+
+	private long nextTodoId = 1;
+	private long nextCommentId = 1;
+
+	@Test
+	void cascade_vs_bulk() {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(
+			"INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (1, 'bench@test.com', 'pw', 'USER', ?, ?)",
+			now, now);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// 두 경로의 쿼리 준비/클래스 로딩 비용이 첫 측정에 섞이지 않도록 한 번씩 미리 실행한다
+		for (int i = 0; i < 20; i++) {
+			long warmupTodoId = seed(10, now);
+			transactionTemplate.executeWithoutResult(
+				status -> todoRepository.delete(todoRepository.findById(warmupTodoId).orElseThrow()));
+			todoService.deleteTodo(AUTH_USER, seed(10, now));
+		}
+
+		for (int commentCount : new int[] {10, 1_000, 100_000}) {
+			long cascadeTodoId = seed(commentCount, now);
+			BenchmarkSupport.allocatedBytesPerOp("cascade delete (" + commentCount + " comments)", 1,
+				() -> BenchmarkSupport.timed("cascade delete (" + commentCount + " comments)", () -> {
+					transactionTemplate.executeWithoutResult(
+						status -> todoRepository.delete(todoRepository.findById(cascadeTodoId).orElseThrow()));
+					return null;
+				}));
+			assertRemoved(cascadeTodoId);
+
+			long bulkTodoId = seed(commentCount, now);
+			BenchmarkSupport.allocatedBytesPerOp("bulk delete (" + commentCount + " comments)", 1,
+				() -> BenchmarkSupport.timed("bulk delete (" + commentCount + " comments)", () -> {
+					todoService.deleteTodo(AUTH_USER, bulkTodoId);
+					return null;
+				}));
+			assertRemoved(bulkTodoId);
+		}
+	}
+
+	// 담당자가 있으면 CascadeType.REMOVE 가 없는 기존 매핑으로는 지울 수 없으므로 댓글만 단다.
+	private long seed(int commentCount, LocalDateTime now) {
+		long todoId = nextTodoId++;
+		jdbcTemplate.update(
+			"INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, 'title', 'contents', 'Sunny', 1, ?, ?)",
+			todoId, now, now);
+
+		List<Object[]> rows = new ArrayList<>(commentCount);
+		for (int i = 0; i < commentCount; i++) {
+			rows.add(new Object[] {nextCommentId++, "comment " + i, todoId, now, now});
+		}
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, 1, ?, ?, ?)",
+			rows);
+		return todoId;
+	}
+
+	private void assertRemoved(long todoId) {
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE id = ?", Long.class, todoId));
+		assertEquals(0, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM comments WHERE todo_id = ?", Long.class, todoId));
+	}
+}
@@ -0,0 +1,108 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.cursor.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.todo.service.TodoSearchIndexer;
+import org.example.expert.domain.todo.service.TodoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * GET /todos 의 OFFSET 페이지네이션과 keyset(cursor) 페이지네이션의 1페이지 / 10,000페이지 지연시간 비교.
+ * ./gradlew benchmark --tests '*TodoPaginationBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({TodoService.class, TodoCache.class, TodoSearchIndexer.class, ManagerCache.class})
+@DisplayName("Todo 페이지네이션 벤치마크")
+class TodoPaginationBenchmarkTest {
+
+	private static final int PAGE_SIZE = 10;
+	private static final int DEEP_PAGE = 10_000;
+	private static final int TODO_COUNT = DEEP_PAGE * PAGE_SIZE + PAGE_SIZE;
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	void offset_vs_cursor() {
+		seed();
+
+		// 10,000 페이지 직전 행의 위치로 커서를 만든다 (클라이언트가 앞 페이지를 넘겨온 상황과 동일)
+		String deepCursor = jdbcTemplate.queryForObject(
+			"SELECT modified_at, id FROM todos ORDER BY modified_at DESC, id DESC LIMIT 1 OFFSET ?",
+			(rs, rowNum) -> new Cursor(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)).encode(),
+			(DEEP_PAGE - 1) * PAGE_SIZE - 1
+		);
+
+		Page<TodoResponse> offsetPage = todoService.getTodos(DEEP_PAGE, PAGE_SIZE);
+		CursorResponse<TodoResponse> cursorPage = todoService.getTodosByCursor(deepCursor, PAGE_SIZE);
+		assertEquals(
+			offsetPage.getContent().stream().map(TodoResponse::getId).toList(),
+			cursorPage.getContent().stream().map(TodoResponse::getId).toList()
+		);
+
+		System.out.println(jdbcTemplate.queryForObject(
+			"EXPLAIN SELECT * FROM todos t WHERE t.modified_at <= ? AND (t.modified_at < ? OR t.id < ?) "
+				+ "ORDER BY t.modified_at DESC, t.id DESC LIMIT 11",
+			String.class, LocalDateTime.now(), LocalDateTime.now(), 1L));
+
+		BenchmarkSupport.measure("offset page 1", 20, 100, () -> clearing(() -> todoService.getTodos(1, PAGE_SIZE)));
+		BenchmarkSupport.measure("cursor page 1", 20, 100, () -> clearing(() -> todoService.getTodosByCursor("", PAGE_SIZE)));
+		BenchmarkSupport.measure("offset page " + DEEP_PAGE, 5, 30,
+			() -> clearing(() -> todoService.getTodos(DEEP_PAGE, PAGE_SIZE)));
+		BenchmarkSupport.measure("cursor page " + DEEP_PAGE, 5, 30,
+			() -> clearing(() -> todoService.getTodosByCursor(deepCursor, PAGE_SIZE)));
+	}
+
+	private void clearing(Runnable query) {
+		query.run();
+		entityManager.clear();
+	}
+
+	private void seed() {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(
+			"INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (1, 'bench@test.com', 'pw', 'USER', ?, ?)",
+			now, now);
+
+		List<Object[]> rows = new ArrayList<>(TODO_COUNT);
+		for (int i = 1; i <= TODO_COUNT; i++) {
+			// 두 건씩 같은 modified_at 을 갖도록 해서 id tie-break 도 함께 검증한다
+			Timestamp modifiedAt = Timestamp.valueOf(now.minusSeconds(TODO_COUNT - (i / 2)));
+			rows.add(new Object[] {i, "title " + i, "contents " + i, "Sunny", 1L, modifiedAt, modifiedAt});
+		}
+		BenchmarkSupport.timed("seed " + TODO_COUNT + " todos", () -> jdbcTemplate.batchUpdate(
+			"INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+			rows));
+	}
+}
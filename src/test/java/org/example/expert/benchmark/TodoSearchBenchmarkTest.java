@@ -0,0 +1,160 @@
+package org.example.expert.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.todo.service.TodoSearchIndexer;
+import org.example.expert.domain.todo.service.TodoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 1,000,000 건의 일정에서 검색 API(GET /todos/search)의 조건별 첫 페이지 지연시간.
+ * 검색어는 제목/내용에 LIKE '%...%' 를 거는 방식(전체 스캔)과 역색인(todo_search_terms) 방식을 비교한다.
+ * 데이터가 힙에 다 들어가지 않으므로 파일 기반 H2 를 쓰고, 시드는 10,000 건마다 커밋한다.
+ * ./gradlew benchmark --tests '*TodoSearchBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:file:./build/benchmark-db/todo-search;DB_CLOSE_ON_EXIT=FALSE",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TodoService.class, TodoCache.class, TodoSearchIndexer.class, ManagerCache.class})
+@DisplayName("Todo 검색 벤치마크")
+class TodoSearchBenchmarkTest {
+
+	private static final int TODO_COUNT = 1_000_000;
+	private static final int USER_COUNT = 100;
+	private static final int WORD_COUNT = 20_000;
+	private static final int PAGE_SIZE = 10;
+	private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+	private static final String LIKE_SQL = "SELECT t.id FROM todos t "
+		+ "WHERE (LOWER(t.title) LIKE ? OR LOWER(t.contents) LIKE ?) "
+		+ "ORDER BY t.modified_at DESC, t.id DESC LIMIT ?";
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockBean
+	private WeatherClient weatherClient;
+
+	@Test
+	void search_over_one_million_todos() {
+		LocalDateTime now = LocalDateTime.now();
+		seed(now);
+
+		// 단어 w{n} 은 약 TODO_COUNT * 3 / WORD_COUNT = 150 건의 일정에 등장한다
+		String keyword = word(12_345);
+		List<Long> likeIds = jdbcTemplate.queryForList(LIKE_SQL, Long.class,
+			"%" + keyword + "%", "%" + keyword + "%", PAGE_SIZE + 1);
+		List<Long> indexedIds = search(null, null, null, null, keyword).getContent().stream()
+			.map(TodoResponse::getId)
+			.toList();
+		assertEquals(likeIds.subList(0, PAGE_SIZE), indexedIds);
+
+		System.out.println(jdbcTemplate.queryForObject(
+			"EXPLAIN SELECT t.id FROM todos t WHERE t.weather = 'Rainy' "
+				+ "ORDER BY t.modified_at DESC, t.id DESC LIMIT 11", String.class));
+		System.out.println(jdbcTemplate.queryForObject(
+			"EXPLAIN SELECT s.todo_id FROM todo_search_terms s WHERE s.term LIKE 'w12345%'", String.class));
+
+		LocalDate today = now.toLocalDate();
+		BenchmarkSupport.measure("keyword LIKE '%...%' (full scan)", 2, 10, () -> jdbcTemplate.queryForList(
+			LIKE_SQL, Long.class, "%" + keyword + "%", "%" + keyword + "%", PAGE_SIZE + 1));
+		BenchmarkSupport.measure("keyword (inverted index)", 20, 100, () -> search(null, null, null, null, keyword));
+		BenchmarkSupport.measure("keyword x2 (inverted index)", 20, 100,
+			() -> search(null, null, null, null, keyword + " " + word(54_321 % WORD_COUNT)));
+		BenchmarkSupport.measure("weather", 20, 100, () -> search("Rainy", null, null, null, null));
+		BenchmarkSupport.measure("owner", 20, 100, () -> search(null, 42L, null, null, null));
+		BenchmarkSupport.measure("owner + date range", 20, 100,
+			() -> search(null, 42L, today.minusDays(30), today.minusDays(20), null));
+		BenchmarkSupport.measure("weather + owner + date range + keyword", 20, 100,
+			() -> search("Rainy", 42L, today.minusDays(365), today, word(7)));
+	}
+
+	private CursorResponse<TodoResponse> search(String weather, Long userId, LocalDate from, LocalDate to,
+		String keyword) {
+		CursorResponse<TodoResponse> page = todoService.searchTodos(weather, userId, from, to, keyword, null, PAGE_SIZE);
+		entityManager.clear();
+		return page;
+	}
+
+	private static String word(int n) {
+		return "w" + n;
+	}
+
+	private void seed(LocalDateTime now) {
+		List<Object[]> users = new ArrayList<>(USER_COUNT);
+		for (int i = 1; i <= USER_COUNT; i++) {
+			users.add(new Object[] {i, "bench" + i + "@test.com", now, now});
+		}
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (?, ?, 'pw', 'USER', ?, ?)",
+			users);
+
+		BenchmarkSupport.timed("seed " + TODO_COUNT + " todos", () -> {
+			List<Object[]> todos = new ArrayList<>(10_000);
+			List<Object[]> terms = new ArrayList<>(30_000);
+			for (int i = 1; i <= TODO_COUNT; i++) {
+				// 약 1년에 걸쳐 고르게 흩어진 수정일, 의사 난수로 고른 단어 3개
+				Timestamp modifiedAt = Timestamp.valueOf(now.minusSeconds((long)(TODO_COUNT - i) * 31));
+				String first = word(Math.floorMod(i * 7919, WORD_COUNT));
+				String second = word(Math.floorMod(i * 104_729 + 13, WORD_COUNT));
+				String third = word(Math.floorMod(i * 1_299_709 + 101, WORD_COUNT));
+				String title = first + " " + second;
+				String contents = third;
+
+				todos.add(new Object[] {i, title, contents, WEATHERS[i % WEATHERS.length], (i % USER_COUNT) + 1,
+					modifiedAt, modifiedAt});
+				for (String term : TodoSearchIndexer.tokenize(title, contents)) {
+					terms.add(new Object[] {term, i});
+				}
+				if (todos.size() == 10_000) {
+					flush(todos, terms);
+				}
+			}
+			flush(todos, terms);
+			return null;
+		});
+	}
+
+	private void flush(List<Object[]> todos, List<Object[]> terms) {
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+			todos);
+		jdbcTemplate.batchUpdate("INSERT INTO todo_search_terms (term, todo_id) VALUES (?, ?)", terms);
+		todos.clear();
+		terms.clear();
+	}
+}
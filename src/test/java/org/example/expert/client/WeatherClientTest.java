@@ -0,0 +1,126 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+@DisplayName("WeatherClient 클래스")
+class WeatherClientTest {
+
+	private WeatherStubServer stubServer;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubServer = new WeatherStubServer();
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubServer.close();
+	}
+
+	private WeatherClient weatherClient(Duration ttl) {
+		return new WeatherClient(new RestTemplateBuilder(), stubServer.getBaseUrl(), Duration.ofSeconds(1), ttl, 2,
+			Duration.ofMinutes(1));
+	}
+
+	@Nested
+	@DisplayName("getTodayWeather 메서드는")
+	class GetTodayWeatherMethod {
+
+		@Nested
+		@DisplayName("성공 케이스")
+		class SuccessCase {
+
+			@Test
+			@DisplayName("1년치 데이터를 한 번만 받아오고 이후에는 캐시에서 오늘 날씨를 반환한다")
+			void should_load_once_and_serve_from_cache() {
+				// given
+				WeatherClient weatherClient = weatherClient(Duration.ofHours(1));
+
+				// when
+				String first = weatherClient.getTodayWeather();
+				String second = weatherClient.getTodayWeather();
+				weatherClient.refresh();
+
+				// then
+				assertEquals("Sunny", first);
+				assertEquals("Sunny", second);
+				assertEquals(1, stubServer.getRequestCount());
+			}
+
+			@Test
+			@DisplayName("TTL 이 지나면 갱신된 날씨를 반환한다")
+			void should_refresh_after_ttl() {
+				// given
+				WeatherClient weatherClient = weatherClient(Duration.ZERO);
+				weatherClient.getTodayWeather();
+				stubServer.respondWith(200, WeatherStubServer.todayWeatherJson("Rainy"));
+
+				// when
+				weatherClient.refresh();
+
+				// then
+				assertEquals("Rainy", weatherClient.getTodayWeather());
+			}
+
+			@Test
+			@DisplayName("갱신이 실패하면 마지막으로 받아온 날씨를 반환한다")
+			void should_return_stale_value_when_refresh_fails() {
+				// given
+				WeatherClient weatherClient = weatherClient(Duration.ZERO);
+				weatherClient.getTodayWeather();
+				stubServer.respondWith(500, "{}");
+
+				// when
+				weatherClient.refresh();
+
+				// then
+				assertEquals("Sunny", weatherClient.getTodayWeather());
+			}
+		}
+
+		@Nested
+		@DisplayName("실패 케이스")
+		class FailureCase {
+
+			@Test
+			@DisplayName("한 번도 받아오지 못한 상태에서 원격 API 가 실패하면 ServerException 이 발생한다")
+			void should_throw_exception_when_first_load_fails() {
+				// given
+				WeatherClient weatherClient = weatherClient(Duration.ofHours(1));
+				stubServer.respondWith(500, "{}");
+
+				// when & then
+				assertThrows(ServerException.class, weatherClient::getTodayWeather);
+			}
+
+			@Test
+			@DisplayName("연속 실패가 임계치에 도달하면 서킷이 열려 원격 API 를 호출하지 않는다")
+			void should_open_circuit_after_consecutive_failures() {
+				// given
+				WeatherClient weatherClient = weatherClient(Duration.ofHours(1));
+				stubServer.respondWith(500, "{}");
+				weatherClient.refresh();
+				weatherClient.refresh();
+
+				// when
+				ServerException exception = assertThrows(ServerException.class, weatherClient::getTodayWeather);
+
+				// then
+				assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+				assertEquals(2, stubServer.getRequestCount());
+				assertEquals("날씨 API 서킷이 열려 있어 데이터를 가져올 수 없습니다.", exception.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package org.example.expert.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트용 로컬 날씨 API 스텁 서버. f-api.github.io 의 /f-api/weather.json 응답을 흉내냅니다.
+ */
+public class WeatherStubServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final AtomicInteger requestCount = new AtomicInteger();
+
+	private volatile int status = 200;
+	private volatile String body = todayWeatherJson("Sunny");
+
+	public WeatherStubServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/f-api/weather.json", this::handle);
+		server.start();
+	}
+
+	public static String todayWeatherJson(String weather) {
+		String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+		String yesterday = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+		return "[{\"date\":\"" + yesterday + "\",\"weather\":\"Cloudy\"},"
+			+ "{\"date\":\"" + today + "\",\"weather\":\"" + weather + "\"}]";
+	}
+
+	public String getBaseUrl() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	public int getRequestCount() {
+		return requestCount.get();
+	}
+
+	public void respondWith(int status, String body) {
+		this.status = status;
+		this.body = body;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
@@ -2,17 +2,21 @@ package org.example.expert.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.metrics.service.MetricsRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
 
 @DisplayName("PasswordEncoder 클래스")
 class PasswordEncoderTest extends AbstractMockTest {
 
-	@InjectMocks
-	private PasswordEncoder passwordEncoder;
+	private final PasswordEncoder passwordEncoder = new PasswordEncoder(
+		new PasswordHashingExecutor(new MetricsRegistry(), 1, 10, Duration.ofSeconds(5)), BCrypt.MIN_COST);
 
 	@Nested
 	@DisplayName("encode 메서드는")
@@ -73,4 +77,29 @@ class PasswordEncoderTest extends AbstractMockTest {
 			}
 		}
 	}
+
+	@Nested
+	@DisplayName("needsUpgrade 메서드는")
+	class NeedsUpgradeMethod {
+
+		@Test
+		@DisplayName("저장된 해시의 비용이 목표 비용보다 낮으면 true를 반환한다")
+		void should_return_true_when_cost_is_below_target() {
+			// given
+			String encodedPassword = passwordEncoder.encode("testPassword");
+			PasswordEncoder strongerEncoder = new PasswordEncoder(
+				new PasswordHashingExecutor(new MetricsRegistry(), 1, 10, Duration.ofSeconds(5)), BCrypt.MIN_COST + 2);
+
+			// when & then
+			assertTrue(strongerEncoder.needsUpgrade(encodedPassword));
+			assertFalse(passwordEncoder.needsUpgrade(encodedPassword));
+		}
+
+		@Test
+		@DisplayName("BCrypt 형식이 아닌 값이면 false를 반환한다")
+		void should_return_false_when_hash_is_not_bcrypt() {
+			// when & then
+			assertFalse(passwordEncoder.needsUpgrade("plain-text"));
+		}
+	}
 }
@@ -0,0 +1,128 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.metrics.dto.response.TimerMetricResponse;
+import org.example.expert.domain.metrics.service.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PasswordHashingExecutor 클래스")
+class PasswordHashingExecutorTest {
+
+	private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private PasswordHashingExecutor hashingExecutor;
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		hashingExecutor.shutdown();
+	}
+
+	@Nested
+	@DisplayName("execute 메서드는")
+	class ExecuteMethod {
+
+		@Test
+		@DisplayName("작업을 해싱 전용 스레드에서 실행하고 실행 시간과 대기 시간을 기록한다")
+		void should_run_on_hashing_thread_and_record_timers() {
+			// given
+			hashingExecutor = new PasswordHashingExecutor(metricsRegistry, 1, 1, Duration.ofSeconds(5));
+
+			// when
+			String threadName = hashingExecutor.execute("test", () -> Thread.currentThread().getName());
+
+			// then
+			assertTrue(threadName.startsWith("password-hashing-"));
+			assertEquals(2, metricsRegistry.snapshot().getTimers().stream()
+				.map(TimerMetricResponse::getName)
+				.filter(name -> name.equals("password.test") || name.equals("password.test.queue-wait"))
+				.count());
+		}
+
+		@Test
+		@DisplayName("풀과 대기열이 가득 차면 기다리지 않고 TooManyRequestsException 을 던진다")
+		void should_reject_when_saturated() throws InterruptedException {
+			// given
+			hashingExecutor = new PasswordHashingExecutor(metricsRegistry, 1, 1, Duration.ofSeconds(5));
+			CompletableFuture.runAsync(() -> hashingExecutor.execute("test", () -> release.await(5, TimeUnit.SECONDS)));
+			CompletableFuture.runAsync(() -> hashingExecutor.execute("test", () -> release.await(5, TimeUnit.SECONDS)));
+			awaitSaturation();
+
+			// when & then
+			assertThrows(TooManyRequestsException.class, () -> hashingExecutor.execute("test", () -> true));
+			assertEquals(1, hashingExecutor.getRejectedCount());
+		}
+
+		@Test
+		@DisplayName("제한 시간 안에 결과를 받지 못하면 TooManyRequestsException 을 던진다")
+		void should_throw_when_timed_out() {
+			// given
+			hashingExecutor = new PasswordHashingExecutor(metricsRegistry, 1, 1, Duration.ofMillis(50));
+
+			// when & then
+			assertThrows(TooManyRequestsException.class,
+				() -> hashingExecutor.execute("test", () -> release.await(5, TimeUnit.SECONDS)));
+			assertEquals(1, hashingExecutor.getTimedOutCount());
+		}
+	}
+
+	@Nested
+	@DisplayName("executeIfIdle 메서드는")
+	class ExecuteIfIdleMethod {
+
+		@Test
+		@DisplayName("풀이 놀고 있으면 해싱 스레드에서 실행하고 결과를 future 로 돌려준다")
+		void should_run_when_idle() {
+			// given
+			hashingExecutor = new PasswordHashingExecutor(metricsRegistry, 1, 1, Duration.ofSeconds(5));
+
+			// when
+			Optional<CompletableFuture<String>> result = hashingExecutor.executeIfIdle("test",
+				() -> Thread.currentThread().getName());
+
+			// then
+			assertTrue(result.isPresent());
+			assertTrue(result.get().join().startsWith("password-hashing-"));
+		}
+
+		@Test
+		@DisplayName("대기열이 비어 있어도 모든 해싱 스레드가 일하는 중이면 넘기지 않는다")
+		void should_skip_when_all_threads_are_busy() throws InterruptedException {
+			// given
+			hashingExecutor = new PasswordHashingExecutor(metricsRegistry, 1, 1, Duration.ofSeconds(5));
+			CompletableFuture.runAsync(() -> hashingExecutor.execute("test", () -> release.await(5, TimeUnit.SECONDS)));
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (hashingExecutor.getActiveCount() < 1) {
+				assertTrue(System.nanoTime() < deadline, "해싱 스레드가 시작되지 않았습니다.");
+				Thread.sleep(5);
+			}
+
+			// when
+			Optional<CompletableFuture<Boolean>> result = hashingExecutor.executeIfIdle("test", () -> true);
+
+			// then
+			assertTrue(result.isEmpty());
+			assertEquals(0, hashingExecutor.getQueuedCount());
+		}
+	}
+
+	private void awaitSaturation() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (hashingExecutor.getActiveCount() < 1 || hashingExecutor.getQueuedCount() < 1) {
+			assertTrue(System.nanoTime() < deadline, "해싱 풀이 가득 차지 않았습니다.");
+			Thread.sleep(5);
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
+import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+
+@DisplayName("AuthService 클래스")
+class AuthServiceTest extends AbstractMockTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	@Mock
+	private JwtUtil jwtUtil;
+
+	@Mock
+	private PasswordUpgrader passwordUpgrader;
+
+	@Mock
+	private EmailBloomFilter emailBloomFilter;
+
+	@Mock
+	private TokenRevocationList tokenRevocationList;
+
+	@Mock
+	private RefreshTokenRotation refreshTokenRotation;
+
+	@InjectMocks
+	private AuthService authService;
+
+	@Nested
+	@DisplayName("signup 메서드는")
+	class SignupMethod {
+
+		private final SignupRequest request = new SignupRequest("a@a.com", "password", "USER");
+
+		@Test
+		@DisplayName("필터가 확실히 없는 이메일이라고 하면 중복 조회 없이 가입시키고 필터에 추가한다")
+		void should_skip_lookup_when_filter_says_new() {
+			// given
+			given(emailBloomFilter.mightContain("a@a.com")).willReturn(false);
+			given(passwordEncoder.encode("password")).willReturn("hash");
+			given(userRepository.saveAndFlush(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+			given(jwtUtil.createToken(any(), eq("a@a.com"), eq(UserRole.USER))).willReturn("Bearer access");
+			given(refreshTokenRotation.issue(any())).willReturn("refresh");
+
+			// when
+			SignupResponse response = authService.signup(request);
+
+			// then
+			assertEquals("Bearer access", response.getBearerToken());
+			verify(userRepository, never()).existsByEmail(anyString());
+			verify(emailBloomFilter, never()).recordLookup(anyBoolean());
+			verify(emailBloomFilter).put("a@a.com");
+		}
+
+		@Test
+		@DisplayName("필터가 있을 수도 있다고 하면 조회해서 이미 있는 이메일은 InvalidRequestException 으로 거절한다")
+		void should_reject_existing_email_after_lookup() {
+			// given
+			given(emailBloomFilter.mightContain("a@a.com")).willReturn(true);
+			given(userRepository.existsByEmail("a@a.com")).willReturn(true);
+
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> authService.signup(request));
+
+			// then
+			assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+			verify(emailBloomFilter).recordLookup(true);
+			verifyNoInteractions(passwordEncoder);
+		}
+
+		@Test
+		@DisplayName("조회 뒤 같은 이메일이 먼저 가입해 unique 제약에 걸리면 InvalidRequestException 으로 바꾼다")
+		void should_map_unique_violation_to_invalid_request() {
+			// given
+			given(emailBloomFilter.mightContain("a@a.com")).willReturn(false);
+			given(passwordEncoder.encode("password")).willReturn("hash");
+			given(userRepository.saveAndFlush(any(User.class)))
+				.willThrow(new DataIntegrityViolationException("duplicate email"));
+
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> authService.signup(request));
+
+			// then
+			assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+			verify(emailBloomFilter, never()).put(anyString());
+			verifyNoInteractions(jwtUtil);
+		}
+	}
+
+	@Nested
+	@DisplayName("refresh 메서드는")
+	class RefreshMethod {
+
+		@Test
+		@DisplayName("리프레시 토큰을 다음 토큰으로 바꾸고 비밀번호 검증 없이 새 토큰을 발급한다")
+		void should_rotate_refresh_token_without_hashing() {
+			// given
+			Claims claims = refreshClaims(UUID.randomUUID());
+			given(jwtUtil.extractRefreshClaims("refresh")).willReturn(claims);
+			given(refreshTokenRotation.rotate(claims)).willReturn("new-refresh");
+			given(userRepository.findById(1L)).willReturn(Optional.of(new User("a@a.com", "hash", UserRole.ADMIN)));
+			given(jwtUtil.createToken(any(), eq("a@a.com"), eq(UserRole.ADMIN))).willReturn("Bearer access");
+
+			// when
+			TokenRefreshResponse response = authService.refresh(new TokenRefreshRequest("refresh"));
+
+			// then
+			assertEquals("Bearer access", response.getBearerToken());
+			assertEquals("new-refresh", response.getRefreshToken());
+			verifyNoInteractions(passwordEncoder, tokenRevocationList);
+		}
+
+		@Test
+		@DisplayName("이미 쓴 리프레시 토큰이면 AuthException 이 발생한다")
+		void should_reject_reused_refresh_token() {
+			// given
+			Claims claims = refreshClaims(UUID.randomUUID());
+			given(jwtUtil.extractRefreshClaims("refresh")).willReturn(claims);
+			given(refreshTokenRotation.rotate(claims)).willThrow(new AuthException("폐기된 리프레시 토큰입니다."));
+
+			// when
+			AuthException exception = assertThrows(AuthException.class,
+				() -> authService.refresh(new TokenRefreshRequest("refresh")));
+
+			// then
+			assertEquals("폐기된 리프레시 토큰입니다.", exception.getMessage());
+			verify(jwtUtil, never()).createToken(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("만료되었거나 유효하지 않은 리프레시 토큰이면 AuthException 이 발생한다")
+		void should_reject_invalid_refresh_token() {
+			// given
+			given(jwtUtil.extractRefreshClaims("expired")).willThrow(new ExpiredJwtException(null, null, "expired"));
+
+			// when & then
+			assertThrows(AuthException.class, () -> authService.refresh(new TokenRefreshRequest("expired")));
+			verifyNoInteractions(refreshTokenRotation);
+		}
+	}
+
+	@Nested
+	@DisplayName("logout 메서드는")
+	class LogoutMethod {
+
+		@Test
+		@DisplayName("리프레시 토큰의 family 와 액세스 토큰을 모두 폐기한다")
+		void should_revoke_both_tokens() {
+			// given
+			UUID accessTokenId = UUID.randomUUID();
+			Claims claims = refreshClaims(UUID.randomUUID());
+			given(jwtUtil.extractRefreshClaims("refresh")).willReturn(claims);
+			given(jwtUtil.substringToken("Bearer access")).willReturn("access");
+			given(jwtUtil.extractAccessClaims("access")).willReturn(refreshClaims(accessTokenId));
+
+			// when
+			authService.logout("Bearer access", new TokenRefreshRequest("refresh"));
+
+			// then
+			verify(refreshTokenRotation).revoke(claims);
+			verify(tokenRevocationList).revoke(eq(accessTokenId), any(Instant.class));
+		}
+	}
+
+	private static Claims refreshClaims(UUID tokenId) {
+		Claims claims = Jwts.claims();
+		claims.setId(tokenId.toString());
+		claims.setSubject("1");
+		claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+		return claims;
+	}
+}
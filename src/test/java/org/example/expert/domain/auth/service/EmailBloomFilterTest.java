@@ -0,0 +1,90 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("EmailBloomFilter 클래스")
+class EmailBloomFilterTest extends AbstractMockTest {
+
+	private static final int EMAIL_COUNT = 10_000;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Nested
+	@DisplayName("mightContain 메서드는")
+	class MightContainMethod {
+
+		@Test
+		@DisplayName("시작할 때 읽은 이메일과 가입으로 추가한 이메일은 대소문자와 상관없이 항상 true 다")
+		void should_never_miss_registered_email() {
+			// given
+			given(userRepository.streamAllEmails()).willReturn(emails("user", EMAIL_COUNT));
+			EmailBloomFilter filter = loadedFilter(true);
+
+			// when
+			filter.put("New@Test.com");
+
+			// then
+			IntStream.range(0, EMAIL_COUNT).forEach(i -> assertTrue(filter.mightContain("user" + i + "@test.com")));
+			assertTrue(filter.mightContain("new@test.com"));
+			assertTrue(filter.mightContain("USER1@TEST.COM"));
+			assertEquals(EMAIL_COUNT + 1, filter.getInsertedCount());
+		}
+
+		@Test
+		@DisplayName("없는 이메일의 오탐률은 설정한 확률 근처이고 게이지로 보고된다")
+		void should_report_false_positive_rate() {
+			// given
+			given(userRepository.streamAllEmails()).willReturn(emails("user", EMAIL_COUNT));
+			EmailBloomFilter filter = loadedFilter(true);
+
+			// when
+			emails("stranger", EMAIL_COUNT).forEach(email -> {
+				if (filter.mightContain(email)) {
+					filter.recordLookup(false);
+				}
+			});
+
+			// then
+			assertTrue(filter.getFalsePositiveRate() < 0.03, "오탐률 " + filter.getFalsePositiveRate());
+			assertTrue(filter.getExpectedFalsePositiveRate() < 0.03);
+			assertEquals(EMAIL_COUNT, filter.getSkippedLookupCount() + filter.getFalsePositiveCount());
+		}
+
+		@Test
+		@DisplayName("필터가 꺼져 있으면 항상 true 를 반환해 DB 조회로 넘긴다")
+		void should_always_defer_to_database_when_disabled() {
+			// given
+			EmailBloomFilter filter = loadedFilter(false);
+
+			// when & then
+			assertTrue(filter.mightContain("anyone@test.com"));
+			verify(userRepository, never()).streamAllEmails();
+		}
+	}
+
+	private EmailBloomFilter loadedFilter(boolean enabled) {
+		EmailBloomFilter filter = new EmailBloomFilter(userRepository, transactionManager, enabled, EMAIL_COUNT, 0.01);
+		filter.load();
+		return filter;
+	}
+
+	private static Stream<String> emails(String prefix, int count) {
+		return IntStream.range(0, count).mapToObj(i -> prefix + i + "@test.com");
+	}
+}
@@ -0,0 +1,130 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("PasswordUpgrader 클래스")
+class PasswordUpgraderTest extends AbstractMockTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private PasswordUpgrader passwordUpgrader;
+
+	@BeforeEach
+	void setUp() {
+		passwordUpgrader = new PasswordUpgrader(userRepository, passwordEncoder, transactionManager);
+	}
+
+	@Nested
+	@DisplayName("upgradeIfNeeded 메서드는")
+	class UpgradeIfNeededMethod {
+
+		@Test
+		@DisplayName("해시 비용이 목표 이상이면 다시 해싱하지 않는다")
+		void should_skip_when_hash_is_up_to_date() {
+			// given
+			given(passwordEncoder.needsUpgrade("current")).willReturn(false);
+
+			// when
+			passwordUpgrader.upgradeIfNeeded(1L, "password", "current");
+
+			// then
+			verify(passwordEncoder, never()).encodeInBackground(anyString());
+		}
+
+		@Test
+		@DisplayName("해시 비용이 낮으면 백그라운드에서 다시 해싱하고 읽었던 해시일 때만 별도 스레드에서 교체한다")
+		void should_replace_hash_when_unchanged() throws InterruptedException {
+			// given
+			AtomicReference<String> updateThread = new AtomicReference<>();
+			given(passwordEncoder.needsUpgrade("current")).willReturn(true);
+			given(passwordEncoder.encodeInBackground("password"))
+				.willReturn(Optional.of(CompletableFuture.completedFuture("upgraded")));
+			given(userRepository.updatePasswordIfUnchanged(1L, "current", "upgraded")).willAnswer(invocation -> {
+				updateThread.set(Thread.currentThread().getName());
+				return 1;
+			});
+
+			// when
+			passwordUpgrader.upgradeIfNeeded(1L, "password", "current");
+			passwordUpgrader.shutdown();
+
+			// then
+			verify(userRepository).updatePasswordIfUnchanged(1L, "current", "upgraded");
+			assertEquals("password-upgrade", updateThread.get());
+			assertEquals(1, passwordUpgrader.getUpgradedCount());
+		}
+
+		@Test
+		@DisplayName("그 사이 비밀번호가 바뀌었으면 덮어쓰지 않고 충돌로 센다")
+		void should_count_conflict_when_hash_changed() throws InterruptedException {
+			// given
+			given(passwordEncoder.needsUpgrade("current")).willReturn(true);
+			given(passwordEncoder.encodeInBackground("password"))
+				.willReturn(Optional.of(CompletableFuture.completedFuture("upgraded")));
+			given(userRepository.updatePasswordIfUnchanged(1L, "current", "upgraded")).willReturn(0);
+
+			// when
+			passwordUpgrader.upgradeIfNeeded(1L, "password", "current");
+			passwordUpgrader.shutdown();
+
+			// then
+			assertEquals(0, passwordUpgrader.getUpgradedCount());
+			assertEquals(1, passwordUpgrader.getConflictCount());
+		}
+
+		@Test
+		@DisplayName("해싱에 실패하면 저장하지 않는다")
+		void should_not_update_when_hashing_fails() throws InterruptedException {
+			// given
+			given(passwordEncoder.needsUpgrade("current")).willReturn(true);
+			given(passwordEncoder.encodeInBackground("password"))
+				.willReturn(Optional.of(CompletableFuture.failedFuture(new IllegalStateException("boom"))));
+
+			// when
+			passwordUpgrader.upgradeIfNeeded(1L, "password", "current");
+			passwordUpgrader.shutdown();
+
+			// then
+			verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+			assertEquals(0, passwordUpgrader.getUpgradedCount());
+		}
+
+		@Test
+		@DisplayName("해싱 풀이 바쁘면 건너뛰고 다음 로그인으로 미룬다")
+		void should_skip_when_hashing_pool_is_busy() {
+			// given
+			given(passwordEncoder.needsUpgrade("current")).willReturn(true);
+			given(passwordEncoder.encodeInBackground("password")).willReturn(Optional.empty());
+
+			// when
+			passwordUpgrader.upgradeIfNeeded(1L, "password", "current");
+
+			// then
+			assertEquals(1, passwordUpgrader.getSkippedCount());
+			verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.RefreshTokenFamily;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenFamilyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@DisplayName("RefreshTokenRotation 클래스")
+class RefreshTokenRotationTest extends AbstractMockTest {
+
+	@Mock
+	private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+
+	@Mock
+	private TokenRevocationList tokenRevocationList;
+
+	@Mock
+	private JwtUtil jwtUtil;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private RefreshTokenRotation refreshTokenRotation;
+
+	private final Instant expiresAt = Instant.now().plusSeconds(60);
+
+	@BeforeEach
+	void setUp() {
+		refreshTokenRotation = new RefreshTokenRotation(refreshTokenFamilyRepository, tokenRevocationList, jwtUtil,
+			transactionManager);
+		given(jwtUtil.refreshTokenExpiresAt()).willReturn(expiresAt);
+	}
+
+	@Nested
+	@DisplayName("issue 메서드는")
+	class IssueMethod {
+
+		@Test
+		@DisplayName("새 family 에 첫 토큰의 jti 를 저장하고 같은 family 와 jti 로 토큰을 만든다")
+		void should_store_new_family() {
+			// given
+			given(jwtUtil.createRefreshToken(eq(1L), any(UUID.class), any(UUID.class), eq(expiresAt)))
+				.willReturn("refresh");
+
+			// when
+			String token = refreshTokenRotation.issue(1L);
+
+			// then
+			assertEquals("refresh", token);
+			ArgumentCaptor<RefreshTokenFamily> family = ArgumentCaptor.forClass(RefreshTokenFamily.class);
+			verify(refreshTokenFamilyRepository).save(family.capture());
+			verify(jwtUtil).createRefreshToken(1L, family.getValue().getId(), family.getValue().getCurrentTokenId(),
+				expiresAt);
+		}
+	}
+
+	@Nested
+	@DisplayName("rotate 메서드는")
+	class RotateMethod {
+
+		@Test
+		@DisplayName("현재 토큰이면 family 의 jti 를 다음 토큰으로 바꾸고 폐기 목록에는 넣지 않는다")
+		void should_rotate_current_token() {
+			// given
+			UUID familyId = UUID.randomUUID();
+			UUID tokenId = UUID.randomUUID();
+			given(refreshTokenFamilyRepository.rotate(eq(familyId), eq(tokenId), any(UUID.class), eq(expiresAt)))
+				.willReturn(1);
+			given(jwtUtil.createRefreshToken(eq(1L), eq(familyId), any(UUID.class), eq(expiresAt)))
+				.willReturn("new-refresh");
+
+			// when
+			String token = refreshTokenRotation.rotate(refreshClaims(familyId, tokenId));
+
+			// then
+			assertEquals("new-refresh", token);
+			verify(refreshTokenFamilyRepository, never()).deleteFamily(any());
+			verifyNoInteractions(tokenRevocationList);
+		}
+
+		@Test
+		@DisplayName("이미 바뀐 토큰이 다시 오면 family 를 지우고 AuthException 이 발생한다")
+		void should_revoke_family_on_reuse() {
+			// given
+			UUID familyId = UUID.randomUUID();
+			UUID tokenId = UUID.randomUUID();
+			given(refreshTokenFamilyRepository.rotate(eq(familyId), eq(tokenId), any(UUID.class), eq(expiresAt)))
+				.willReturn(0);
+
+			// when
+			AuthException exception = assertThrows(AuthException.class,
+				() -> refreshTokenRotation.rotate(refreshClaims(familyId, tokenId)));
+
+			// then
+			assertEquals("폐기된 리프레시 토큰입니다.", exception.getMessage());
+			verify(refreshTokenFamilyRepository).deleteFamily(familyId);
+			verify(jwtUtil, never()).createRefreshToken(any(), any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("family 가 없는 이전 토큰은 폐기 목록으로 한 번만 받고 새 family 를 발급한다")
+		void should_move_legacy_token_to_new_family() {
+			// given
+			UUID tokenId = UUID.randomUUID();
+			given(tokenRevocationList.revoke(eq(tokenId), any(Instant.class))).willReturn(true, false);
+			given(jwtUtil.createRefreshToken(eq(1L), any(UUID.class), any(UUID.class), eq(expiresAt)))
+				.willReturn("new-refresh");
+
+			// when
+			String token = refreshTokenRotation.rotate(refreshClaims(null, tokenId));
+
+			// then
+			assertEquals("new-refresh", token);
+			verify(refreshTokenFamilyRepository).save(any(RefreshTokenFamily.class));
+			assertThrows(AuthException.class, () -> refreshTokenRotation.rotate(refreshClaims(null, tokenId)));
+		}
+	}
+
+	@Nested
+	@DisplayName("revoke 메서드는")
+	class RevokeMethod {
+
+		@Test
+		@DisplayName("family 를 지우고 폐기 목록에는 넣지 않는다")
+		void should_delete_family() {
+			// given
+			UUID familyId = UUID.randomUUID();
+
+			// when
+			refreshTokenRotation.revoke(refreshClaims(familyId, UUID.randomUUID()));
+
+			// then
+			verify(refreshTokenFamilyRepository).deleteFamily(familyId);
+			verifyNoInteractions(tokenRevocationList);
+		}
+	}
+
+	private static Claims refreshClaims(UUID familyId, UUID tokenId) {
+		Claims claims = Jwts.claims();
+		claims.setId(tokenId.toString());
+		claims.setSubject("1");
+		claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+		if (familyId != null) {
+			claims.put("family", familyId.toString());
+		}
+		return claims;
+	}
+}
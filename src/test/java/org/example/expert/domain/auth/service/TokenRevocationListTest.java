@@ -0,0 +1,123 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("TokenRevocationList 클래스")
+class TokenRevocationListTest extends AbstractMockTest {
+
+	@Mock
+	private RevokedTokenRepository revokedTokenRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private TokenRevocationList tokenRevocationList;
+
+	@BeforeEach
+	void setUp() {
+		tokenRevocationList = new TokenRevocationList(revokedTokenRepository, transactionManager);
+	}
+
+	@Nested
+	@DisplayName("revoke 메서드는")
+	class RevokeMethod {
+
+		@Test
+		@DisplayName("토큰을 폐기 목록에 넣고 테이블에 저장한다")
+		void should_revoke_and_persist() {
+			// given
+			UUID tokenId = UUID.randomUUID();
+
+			// when
+			boolean revoked = tokenRevocationList.revoke(tokenId, Instant.now().plusSeconds(60));
+
+			// then
+			assertTrue(revoked);
+			assertTrue(tokenRevocationList.isRevoked(tokenId));
+			assertFalse(tokenRevocationList.isRevoked(UUID.randomUUID()));
+			verify(revokedTokenRepository).save(any(RevokedToken.class));
+		}
+
+		@Test
+		@DisplayName("이미 폐기된 토큰이면 false 를 반환하고 다시 저장하지 않는다")
+		void should_return_false_when_already_revoked() {
+			// given
+			UUID tokenId = UUID.randomUUID();
+			tokenRevocationList.revoke(tokenId, Instant.now().plusSeconds(60));
+
+			// when
+			boolean revoked = tokenRevocationList.revoke(tokenId, Instant.now().plusSeconds(60));
+
+			// then
+			assertFalse(revoked);
+			verify(revokedTokenRepository, times(1)).save(any(RevokedToken.class));
+		}
+	}
+
+	@Nested
+	@DisplayName("isRevoked 메서드는")
+	class IsRevokedMethod {
+
+		@Test
+		@DisplayName("시작할 때 테이블에서 읽은 폐기 토큰을 막는다")
+		void should_reject_tokens_loaded_from_table() {
+			// given
+			UUID tokenId = UUID.randomUUID();
+			given(revokedTokenRepository.findAllByExpiresAtAfter(any(Instant.class)))
+				.willReturn(List.of(new RevokedToken(tokenId, Instant.now().plusSeconds(60))));
+
+			// when
+			tokenRevocationList.load();
+
+			// then
+			assertTrue(tokenRevocationList.isRevoked(tokenId));
+			assertEquals(1, tokenRevocationList.getRejectedCount());
+		}
+
+		@Test
+		@DisplayName("jti 가 없는 토큰은 폐기할 수 없으므로 false 다")
+		void should_return_false_for_token_without_id() {
+			// when & then
+			assertFalse(tokenRevocationList.isRevoked(null));
+		}
+	}
+
+	@Nested
+	@DisplayName("purgeExpired 메서드는")
+	class PurgeExpiredMethod {
+
+		@Test
+		@DisplayName("만료된 토큰을 메모리와 테이블에서 지운다")
+		void should_remove_expired_tokens() {
+			// given
+			UUID expired = UUID.randomUUID();
+			UUID active = UUID.randomUUID();
+			tokenRevocationList.revoke(expired, Instant.now().minusSeconds(1));
+			tokenRevocationList.revoke(active, Instant.now().plusSeconds(60));
+
+			// when
+			tokenRevocationList.purgeExpired();
+
+			// then
+			assertEquals(1, tokenRevocationList.getSize());
+			assertTrue(tokenRevocationList.isRevoked(active));
+			verify(revokedTokenRepository).deleteExpired(any(Instant.class));
+		}
+	}
+}
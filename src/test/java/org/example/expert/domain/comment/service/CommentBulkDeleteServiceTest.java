@@ -0,0 +1,183 @@
+package org.example.expert.domain.comment.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.enums.BulkDeleteStatus;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("CommentBulkDeleteService 클래스")
+class CommentBulkDeleteServiceTest extends AbstractMockTest {
+
+	@Mock
+	private CommentRepository commentRepository;
+
+	@Mock
+	private TodoRepository todoRepository;
+
+	@Mock
+	private TodoCache todoCache;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private CommentBulkDeleteService commentBulkDeleteService;
+
+	@BeforeEach
+	void setUp() {
+		commentBulkDeleteService = new CommentBulkDeleteService(commentRepository, todoRepository, todoCache,
+			transactionManager, 2, Duration.ZERO, Duration.ofMinutes(1));
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		commentBulkDeleteService.shutdown();
+	}
+
+	private CommentBulkDeleteResponse awaitFinished(String jobId) throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			CommentBulkDeleteResponse job = commentBulkDeleteService.getJob(jobId);
+			if (job.getStatus() != BulkDeleteStatus.RUNNING) {
+				return job;
+			}
+			Thread.sleep(10);
+		}
+		return fail("일괄 삭제 작업이 끝나지 않았습니다.");
+	}
+
+	@Nested
+	@DisplayName("start 메서드는")
+	class StartMethod {
+
+		@Test
+		@DisplayName("chunk 단위로 삭제하고 일정별 댓글 수를 삭제한 만큼 줄인다")
+		void should_delete_in_chunks_and_decrement_counters() throws InterruptedException {
+			// given
+			CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(1L, null, null, null, null);
+			given(commentRepository.findIdsToDelete(request, 0L, 2)).willReturn(List.of(1L, 2L));
+			given(commentRepository.findIdsToDelete(request, 2L, 2)).willReturn(List.of(3L));
+			given(commentRepository.findTodoIdsByIdInForUpdate(List.of(1L, 2L))).willReturn(List.of(10L, 10L));
+			given(commentRepository.findTodoIdsByIdInForUpdate(List.of(3L))).willReturn(List.of(11L));
+			given(commentRepository.deleteByIds(List.of(1L, 2L))).willReturn(2);
+			given(commentRepository.deleteByIds(List.of(3L))).willReturn(1);
+
+			// when
+			CommentBulkDeleteResponse started = commentBulkDeleteService.start(request);
+			CommentBulkDeleteResponse finished = awaitFinished(started.getJobId());
+
+			// then
+			assertEquals(BulkDeleteStatus.COMPLETED, finished.getStatus());
+			assertEquals(3, finished.getDeletedCount());
+			assertEquals(2, finished.getChunkCount());
+			assertNotNull(finished.getFinishedAt());
+			verify(todoRepository).addCommentCount(10L, -2L);
+			verify(todoRepository).addCommentCount(11L, -1L);
+			verify(todoCache).evictAll(Set.of(10L));
+			verify(todoCache).evictAll(Set.of(11L));
+		}
+
+		@Test
+		@DisplayName("삭제 도중 실패하면 그때까지 삭제한 건수와 함께 FAILED 로 남긴다")
+		void should_report_failure_with_progress() throws InterruptedException {
+			// given
+			CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(null, 5L, null, null, null);
+			given(commentRepository.findIdsToDelete(request, 0L, 2)).willReturn(List.of(1L, 2L));
+			given(commentRepository.findIdsToDelete(request, 2L, 2))
+				.willThrow(new DataAccessResourceFailureException("down"));
+			given(commentRepository.findTodoIdsByIdInForUpdate(anyCollection())).willReturn(List.of(5L, 5L));
+			given(commentRepository.deleteByIds(anyCollection())).willReturn(2);
+
+			// when
+			CommentBulkDeleteResponse finished = awaitFinished(commentBulkDeleteService.start(request).getJobId());
+
+			// then
+			assertEquals(BulkDeleteStatus.FAILED, finished.getStatus());
+			assertEquals(2, finished.getDeletedCount());
+			assertEquals("down", finished.getFailureMessage());
+		}
+
+		@Test
+		@DisplayName("조건이 하나도 없으면 InvalidRequestException 이 발생한다")
+		void should_throw_exception_when_no_condition() {
+			// given
+			CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(null, null, List.of(), null, null);
+
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> commentBulkDeleteService.start(request));
+
+			// then
+			assertEquals("삭제할 댓글 조건을 하나 이상 지정해야 합니다.", exception.getMessage());
+			verifyNoInteractions(commentRepository);
+		}
+	}
+
+	@Nested
+	@DisplayName("getJob 메서드는")
+	class GetJobMethod {
+
+		@Test
+		@DisplayName("없는 작업 id 면 InvalidRequestException 이 발생한다")
+		void should_throw_exception_when_job_not_found() {
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> commentBulkDeleteService.getJob("unknown"));
+
+			// then
+			assertEquals("Bulk delete job not found", exception.getMessage());
+		}
+
+		@Test
+		@DisplayName("진행 중인 작업은 보관 기간이 지나도 남아 있고, 끝난 뒤부터 보관 기간이 지나면 사라진다")
+		void should_keep_running_job_until_finished() throws InterruptedException {
+			// given
+			commentBulkDeleteService.shutdown();
+			commentBulkDeleteService = new CommentBulkDeleteService(commentRepository, todoRepository, todoCache,
+				transactionManager, 2, Duration.ZERO, Duration.ofMillis(20));
+			CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(1L, null, null, null, null);
+			CountDownLatch release = new CountDownLatch(1);
+			given(commentRepository.findIdsToDelete(request, 0L, 2)).willAnswer(invocation -> {
+				release.await();
+				return List.of();
+			});
+			String jobId = commentBulkDeleteService.start(request).getJobId();
+
+			// when
+			Thread.sleep(100);
+			CommentBulkDeleteResponse running = commentBulkDeleteService.getJob(jobId);
+			release.countDown();
+
+			// then
+			assertEquals(BulkDeleteStatus.RUNNING, running.getStatus());
+			for (int i = 0; i < 500; i++) {
+				try {
+					commentBulkDeleteService.getJob(jobId);
+				} catch (InvalidRequestException e) {
+					return;
+				}
+				Thread.sleep(10);
+			}
+			fail("끝난 작업이 보관 기간 뒤에도 남아 있습니다.");
+		}
+	}
+}
@@ -4,24 +4,34 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.example.expert.AbstractMockTest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cursor.Cursor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @DisplayName("CommentService 클래스")
 class CommentServiceTest extends AbstractMockTest {
@@ -32,6 +42,15 @@ class CommentServiceTest extends AbstractMockTest {
 	@Mock
 	private TodoRepository todoRepository;
 
+	@Mock
+	private CommentWriteBehindQueue commentWriteBehindQueue;
+
+	@Mock
+	private TodoCache todoCache;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@InjectMocks
 	private CommentService commentService;
 
@@ -54,7 +73,8 @@ class CommentServiceTest extends AbstractMockTest {
 				Todo todo = new Todo("title", "title", "contents", user);
 				Comment comment = new Comment(request.getContents(), user, todo);
 
-				given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+				given(todoRepository.existsById(todoId)).willReturn(true);
+				given(todoRepository.getReferenceById(todoId)).willReturn(todo);
 				given(commentRepository.save(any())).willReturn(comment);
 
 				// when
@@ -63,6 +83,30 @@ class CommentServiceTest extends AbstractMockTest {
 				// then
 				assertNotNull(result);
 				assertEquals(comment.getContents(), request.getContents());
+				verify(todoRepository).addCommentCount(todoId, 1);
+				verify(todoCache).evict(todoId);
+			}
+
+			@Test
+			@DisplayName("쓰기 지연 모드에서는 트랜잭션 없이 존재를 확인한 뒤 큐에 넣고 큐가 정한 id 로 응답한다")
+			void should_enqueue_outside_transaction_when_write_behind_enabled() {
+				// given
+				long todoId = 1;
+				CommentSaveRequest request = new CommentSaveRequest("contents");
+				AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+				given(commentWriteBehindQueue.isEnabled()).willReturn(true);
+				given(todoRepository.existsById(todoId)).willReturn(true);
+				given(commentWriteBehindQueue.enqueue(authUser, todoId, "contents")).willReturn(101L);
+
+				// when
+				CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
+
+				// then
+				assertEquals(101L, result.getId());
+				assertEquals("contents", result.getContents());
+				verify(commentWriteBehindQueue).enqueue(authUser, todoId, "contents");
+				verifyNoInteractions(transactionManager, commentRepository);
 			}
 		}
 
@@ -78,7 +122,7 @@ class CommentServiceTest extends AbstractMockTest {
 				CommentSaveRequest request = new CommentSaveRequest("contents");
 				AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-				given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+				given(todoRepository.existsById(todoId)).willReturn(false);
 
 				// when
 				InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -99,7 +143,8 @@ class CommentServiceTest extends AbstractMockTest {
 				User user = User.fromAuthUser(authUser);
 				Todo todo = new Todo("title", "title", "contents", user);
 
-				given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+				given(todoRepository.existsById(todoId)).willReturn(true);
+				given(todoRepository.getReferenceById(todoId)).willReturn(todo);
 				given(commentRepository.save(any())).willReturn(
 					null); // Mock to return null to simulate the actual behavior
 
@@ -113,4 +158,57 @@ class CommentServiceTest extends AbstractMockTest {
 		}
 
 	}
+
+	@Nested
+	@DisplayName("getCommentsByCursor 메서드는")
+	class GetCommentsByCursorMethod {
+
+		private CommentResponse comment(long id, LocalDateTime createdAt) {
+			return new CommentResponse(id, "contents", 1L, "email", createdAt);
+		}
+
+		@Test
+		@DisplayName("size 보다 한 건 더 조회되면 마지막 댓글의 (createdAt, id) 로 다음 커서를 만든다")
+		void should_return_next_cursor_when_more_comments_exist() {
+			// given
+			LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+			given(commentRepository.findFirstPageByTodoId(1L, Limit.of(3)))
+				.willReturn(List.of(comment(1L, createdAt), comment(2L, createdAt), comment(3L, createdAt)));
+
+			// when
+			CursorResponse<CommentResponse> result = commentService.getCommentsByCursor(1L, "", 2);
+
+			// then
+			assertEquals(List.of(1L, 2L), result.getContent().stream().map(CommentResponse::getId).toList());
+			assertTrue(result.isHasNext());
+			assertEquals(new Cursor(createdAt, 2L).encode(), result.getNextCursor());
+		}
+
+		@Test
+		@DisplayName("커서가 주어지면 커서 이후의 댓글을 조회하고 마지막 페이지에서는 다음 커서가 없다")
+		void should_seek_after_cursor() {
+			// given
+			LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+			String cursor = new Cursor(createdAt, 2L).encode();
+			given(commentRepository.findNextPageByTodoId(1L, createdAt, 2L, Limit.of(3)))
+				.willReturn(List.of(comment(3L, createdAt)));
+
+			// when
+			CursorResponse<CommentResponse> result = commentService.getCommentsByCursor(1L, cursor, 2);
+
+			// then
+			assertEquals(1, result.getContent().size());
+			assertFalse(result.isHasNext());
+			assertNull(result.getNextCursor());
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = {-1, 0, CursorResponse.MAX_SIZE + 1})
+		@DisplayName("size 가 1 미만이거나 최대값을 넘으면 조회하지 않고 InvalidRequestException 이 발생한다")
+		void should_reject_invalid_size(int size) {
+			// when & then
+			assertThrows(InvalidRequestException.class, () -> commentService.getCommentsByCursor(1L, "", size));
+			verifyNoInteractions(commentRepository);
+		}
+	}
 }
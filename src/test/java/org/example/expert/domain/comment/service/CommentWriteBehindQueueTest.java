@@ -0,0 +1,398 @@
+package org.example.expert.domain.comment.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.entity.CommentIngestCheckpoint;
+import org.example.expert.domain.comment.repository.CommentIngestCheckpointRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.entity.PooledIdAllocator;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+@DisplayName("CommentWriteBehindQueue 클래스")
+class CommentWriteBehindQueueTest extends AbstractMockTest {
+
+	private static final AuthUser AUTH_USER = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+	@TempDir
+	private Path directory;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private CommentIngestCheckpointRepository checkpointRepository;
+
+	@Mock
+	private TodoCache todoCache;
+
+	@Mock
+	private PooledIdAllocator idAllocator;
+
+	// 생성기처럼 101 부터 겹치지 않는 id 를 요청한 개수만큼 나눠 준다.
+	@BeforeEach
+	void stubIdAllocator() {
+		AtomicLong nextId = new AtomicLong(101);
+		given(idAllocator.allocate(eq(Comment.class), anyInt())).willAnswer(invocation ->
+			LongStream.range(0, invocation.<Integer>getArgument(1)).mapToObj(i -> nextId.getAndIncrement()).toList());
+	}
+
+	private CommentWriteBehindQueue openQueue(int maxPending) throws IOException {
+		return openQueue(maxPending, DataSize.ofMegabytes(64));
+	}
+
+	private CommentWriteBehindQueue openQueue(int maxPending, DataSize segmentSize) throws IOException {
+		return openQueue(maxPending, segmentSize, false);
+	}
+
+	// 테스트가 flush 를 직접 부르도록 전용 반영 스레드는 사실상 돌지 않게 둔다.
+	private CommentWriteBehindQueue openQueue(int maxPending, DataSize segmentSize, boolean fsync) throws IOException {
+		return openQueue(maxPending, segmentSize, fsync, Duration.ofHours(1));
+	}
+
+	private CommentWriteBehindQueue openQueue(int maxPending, DataSize segmentSize, boolean fsync,
+		Duration flushInterval) throws IOException {
+		CommentWriteBehindQueue queue = new CommentWriteBehindQueue(jdbcTemplate, transactionManager,
+			checkpointRepository, objectMapper, todoCache, idAllocator, true, directory.toString(), fsync, 100, maxPending,
+			segmentSize, flushInterval);
+		queue.recover();
+		return queue;
+	}
+
+	private List<String> journalFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> file.getFileName().toString())
+				.filter(name -> name.endsWith(".journal"))
+				.sorted()
+				.toList();
+		}
+	}
+
+	@Nested
+	@DisplayName("recover 메서드는")
+	class RecoverMethod {
+
+		@Test
+		@DisplayName("재시작하면 체크포인트 이후의 댓글만 다시 반영 대기 상태로 복구한다")
+		void should_recover_records_after_checkpoint() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10);
+			queue.enqueue(AUTH_USER, 1L, "first");
+			queue.enqueue(AUTH_USER, 1L, "second");
+			given(checkpointRepository.findById(CommentIngestCheckpoint.SINGLETON_ID))
+				.willReturn(Optional.of(new CommentIngestCheckpoint(1L)));
+
+			// when
+			CommentWriteBehindQueue recovered = openQueue(10);
+
+			// then
+			assertEquals(1, recovered.getPendingCount());
+			assertEquals(List.of("second"),
+				recovered.withPending(1L, List::of).stream().map(CommentResponse::getContents).toList());
+		}
+
+		@Test
+		@DisplayName("기록 도중 잘린 마지막 줄은 버리고 이어서 기록한다")
+		void should_discard_torn_tail() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10);
+			queue.enqueue(AUTH_USER, 1L, "first");
+			Files.writeString(directory.resolve(journalFiles().get(0)), "{\"sequence\":2,\"todoId\"",
+				StandardOpenOption.APPEND);
+
+			// when
+			CommentWriteBehindQueue recovered = openQueue(10);
+			recovered.enqueue(AUTH_USER, 1L, "second");
+
+			// then
+			assertEquals(2, recovered.getPendingCount());
+			assertEquals(2, openQueue(10).getPendingCount());
+		}
+
+		@Test
+		@DisplayName("여러 세그먼트를 이어서 읽고 체크포인트 이하 레코드만 담긴 세그먼트는 지운다")
+		void should_recover_across_segments_and_delete_checkpointed_ones() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10, DataSize.ofBytes(1));
+			queue.enqueue(AUTH_USER, 1L, "first");
+			queue.enqueue(AUTH_USER, 1L, "second");
+			queue.enqueue(AUTH_USER, 1L, "third");
+			assertEquals(3, journalFiles().size());
+			given(checkpointRepository.findById(CommentIngestCheckpoint.SINGLETON_ID))
+				.willReturn(Optional.of(new CommentIngestCheckpoint(1L)));
+
+			// when
+			CommentWriteBehindQueue recovered = openQueue(10, DataSize.ofBytes(1));
+
+			// then
+			assertEquals(List.of("second", "third"),
+				recovered.withPending(1L, List::of).stream().map(CommentResponse::getContents).toList());
+			assertEquals(List.of("comments-00000000000000000002.journal", "comments-00000000000000000003.journal"),
+				journalFiles());
+		}
+
+		@Test
+		@DisplayName("세그먼트로 나누기 전의 comments.journal 을 첫 세그먼트로 옮겨 복구한다")
+		void should_migrate_legacy_journal() throws IOException {
+			// given
+			// id 를 기록하기 전 버전의 레코드 형식
+			String legacy = "{\"sequence\":1,\"todoId\":1,\"userId\":1,\"email\":\"a@a.com\",\"contents\":\"legacy\","
+				+ "\"createdAt\":\"2024-01-01T00:00:00\"}";
+			Files.createDirectories(directory);
+			Files.writeString(directory.resolve("comments.journal"), legacy + "\n");
+
+			// when
+			CommentWriteBehindQueue recovered = openQueue(10);
+			recovered.enqueue(AUTH_USER, 1L, "second");
+
+			// then
+			List<CommentResponse> comments = recovered.withPending(1L, List::of);
+			assertEquals(List.of("legacy", "second"), comments.stream().map(CommentResponse::getContents).toList());
+			assertEquals(List.of(101L, 102L), comments.stream().map(CommentResponse::getId).toList());
+			assertEquals(List.of("comments-00000000000000000000.journal"), journalFiles());
+		}
+	}
+
+	@Nested
+	@DisplayName("enqueue 메서드는")
+	class EnqueueMethod {
+
+		@Test
+		@DisplayName("반영 대기 댓글이 max-pending 에 도달하면 TooManyRequestsException 으로 거절한다")
+		void should_reject_when_queue_is_full() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(1);
+			queue.enqueue(AUTH_USER, 1L, "first");
+
+			// when & then
+			assertThrows(TooManyRequestsException.class, () -> queue.enqueue(AUTH_USER, 1L, "second"));
+			assertEquals(1, queue.getPendingCount());
+		}
+
+		@Test
+		@DisplayName("댓글 컬럼보다 긴 내용은 큐에 넣지 않고 InvalidRequestException 으로 거절한다")
+		void should_reject_too_long_contents() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10);
+			String contents = "a".repeat(Comment.MAX_CONTENTS_LENGTH + 1);
+
+			// when & then
+			assertThrows(InvalidRequestException.class, () -> queue.enqueue(AUTH_USER, 1L, contents));
+			assertEquals(0, queue.getPendingCount());
+		}
+
+		@Test
+		@DisplayName("fsync 를 켜고 여러 스레드가 동시에 기록해도 세그먼트를 넘나들며 모두 기록되고 재시작 시 복구된다")
+		void should_group_commit_concurrent_enqueues() throws Exception {
+			// given
+			CommentWriteBehindQueue queue = openQueue(1_000, DataSize.ofKilobytes(4), true);
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+
+			// when
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 50; i++) {
+						queue.enqueue(AUTH_USER, 1L, "comment");
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			executor.shutdown();
+
+			// then
+			assertEquals(400, queue.getPendingCount());
+			assertTrue(journalFiles().size() > 1);
+			assertEquals(400, openQueue(1_000).getPendingCount());
+		}
+	}
+
+	@Nested
+	@DisplayName("withPending 메서드는")
+	class WithPendingMethod {
+
+		@Test
+		@DisplayName("대기 댓글을 이어 붙이되 읽는 사이 반영돼 커밋된 목록에도 있는 댓글은 id 로 걸러 한 번만 보여준다")
+		void should_deduplicate_flushed_comments_by_id() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10);
+			long flushedId = queue.enqueue(AUTH_USER, 1L, "first");
+			queue.enqueue(AUTH_USER, 1L, "second");
+			queue.enqueue(AUTH_USER, 2L, "other todo");
+			List<CommentResponse> committed = List.of(
+				new CommentResponse(flushedId, "first", 1L, "a@a.com", LocalDateTime.now()));
+
+			// when
+			List<CommentResponse> comments = queue.withPending(1L, () -> committed);
+
+			// then
+			assertEquals(List.of("first", "second"), comments.stream().map(CommentResponse::getContents).toList());
+			assertEquals(List.of(101L, 102L), comments.stream().map(CommentResponse::getId).toList());
+		}
+	}
+
+	@Nested
+	@DisplayName("flush 메서드는")
+	class FlushMethod {
+
+		@Test
+		@DisplayName("대기 댓글을 배치로 INSERT 하고 같은 트랜잭션에서 댓글 수와 체크포인트를 올린다")
+		void should_insert_batch_and_advance_checkpoint() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10);
+			queue.enqueue(AUTH_USER, 1L, "first");
+			queue.enqueue(AUTH_USER, 2L, "second");
+			given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1, 0});
+
+			// when
+			queue.flush();
+
+			// then
+			ArgumentCaptor<CommentIngestCheckpoint> checkpoint = ArgumentCaptor.forClass(CommentIngestCheckpoint.class);
+			verify(checkpointRepository).save(checkpoint.capture());
+			assertEquals(2L, checkpoint.getValue().getLastSequence());
+			assertEquals(0, queue.getPendingCount());
+			assertEquals(1, queue.getFlushedCount());
+			assertEquals(1, queue.getDroppedCount());
+			verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO comments"), argThat((List<Object[]> rows) ->
+				rows.size() == 2 && rows.get(0)[0].equals(101L) && rows.get(1)[0].equals(102L)));
+			verify(jdbcTemplate).batchUpdate(startsWith("UPDATE todos"), argThat((List<Object[]> rows) ->
+				rows.size() == 1 && rows.get(0)[0].equals(1L) && rows.get(0)[1].equals(1L)));
+			verify(todoCache).evictAll(List.of(1L, 2L));
+		}
+
+		@Test
+		@DisplayName("INSERT 에 실패하면 댓글을 대기 상태로 남겨 다음 주기에 다시 시도한다")
+		void should_keep_pending_when_insert_fails() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10);
+			queue.enqueue(AUTH_USER, 1L, "first");
+			given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+				.willThrow(new DataAccessResourceFailureException("down"));
+
+			// when
+			queue.flush();
+
+			// then
+			assertEquals(1, queue.getPendingCount());
+			assertEquals(1, queue.withPending(1L, List::of).size());
+		}
+
+		@Test
+		@DisplayName("배치가 실패하면 한 건씩 다시 반영하고 제약 조건에 걸린 댓글만 dead letter 로 옮겨 체크포인트를 넘긴다")
+		void should_dead_letter_poison_row_and_flush_the_rest() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10);
+			queue.enqueue(AUTH_USER, 1L, "poison");
+			queue.enqueue(AUTH_USER, 1L, "second");
+			given(jdbcTemplate.batchUpdate(startsWith("INSERT INTO comments"), anyList()))
+				.willThrow(new DataIntegrityViolationException("too long"))
+				.willThrow(new DataIntegrityViolationException("too long"))
+				.willReturn(new int[] {1});
+
+			// when
+			queue.flush();
+
+			// then
+			ArgumentCaptor<CommentIngestCheckpoint> checkpoint = ArgumentCaptor.forClass(CommentIngestCheckpoint.class);
+			verify(checkpointRepository, times(2)).save(checkpoint.capture());
+			assertEquals(List.of(1L, 2L),
+				checkpoint.getAllValues().stream().map(CommentIngestCheckpoint::getLastSequence).toList());
+			assertEquals(0, queue.getPendingCount());
+			assertEquals(1, queue.getFlushedCount());
+			assertEquals(1, queue.getDeadLetteredCount());
+			List<String> deadLetters = Files.readAllLines(directory.resolve("comments.dead-letter"));
+			assertEquals(1, deadLetters.size());
+			assertTrue(deadLetters.get(0).contains("\"poison\""));
+		}
+
+		@Test
+		@DisplayName("공용 스케줄러가 아닌 전용 스레드가 flush-interval 마다 반영하고 종료할 때 멈춘다")
+		void should_flush_on_its_own_thread() throws Exception {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10, DataSize.ofMegabytes(64), false, Duration.ofMillis(10));
+			List<String> flushThreads = new CopyOnWriteArrayList<>();
+			given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+				flushThreads.add(Thread.currentThread().getName());
+				return new int[] {1};
+			});
+
+			// when
+			queue.enqueue(AUTH_USER, 1L, "first");
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (queue.getPendingCount() > 0 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			queue.shutdown();
+
+			// then
+			assertEquals(0, queue.getPendingCount());
+			assertEquals(1, queue.getFlushedCount());
+			assertTrue(flushThreads.stream().allMatch("comment-write-behind-flush"::equals), flushThreads.toString());
+		}
+
+		@Test
+		@DisplayName("반영이 끝나면 기록 중인 세그먼트만 남기고 체크포인트를 넘긴 세그먼트를 지운다")
+		void should_delete_flushed_segments() throws IOException {
+			// given
+			CommentWriteBehindQueue queue = openQueue(10, DataSize.ofBytes(1));
+			queue.enqueue(AUTH_USER, 1L, "first");
+			queue.enqueue(AUTH_USER, 1L, "second");
+			given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1, 1});
+
+			// when
+			queue.flush();
+
+			// then
+			assertEquals(List.of("comments-00000000000000000002.journal"), journalFiles());
+			assertEquals(1, queue.getJournalSegmentCount());
+		}
+	}
+}
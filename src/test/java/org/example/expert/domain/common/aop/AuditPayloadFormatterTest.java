@@ -0,0 +1,97 @@
+package org.example.expert.domain.common.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+
+@DisplayName("AuditPayloadFormatter 클래스")
+class AuditPayloadFormatterTest {
+
+	@Nested
+	@DisplayName("format 메서드는")
+	class FormatMethod {
+
+		@Test
+		@DisplayName("최대 길이보다 짧은 값은 그대로 반환한다")
+		void should_return_value_as_is_when_short() {
+			// when
+			String formatted = AuditPayloadFormatter.format(new Object[] {1L, "contents"}, 100);
+
+			// then
+			assertEquals("1, contents", formatted);
+		}
+
+		@Test
+		@DisplayName("긴 문자열은 최대 길이에서 잘라낸다")
+		void should_truncate_long_value() {
+			// when
+			String formatted = AuditPayloadFormatter.format("a".repeat(1000), 10);
+
+			// then
+			assertEquals("a".repeat(10) + "...", formatted);
+		}
+
+		@Test
+		@DisplayName("큰 컬렉션은 남은 원소 개수만 표시하고 나머지를 직렬화하지 않는다")
+		void should_summarize_remaining_elements_of_large_collection() {
+			// given
+			List<String> comments = IntStream.range(0, 10_000).mapToObj(i -> "comment-" + i).toList();
+
+			// when
+			String formatted = AuditPayloadFormatter.format(ResponseEntity.ok(comments), 30);
+
+			// then
+			assertEquals("[comment-0, comment-1, comment...(+9997 more)]", formatted);
+		}
+
+		@Test
+		@DisplayName("Page 는 페이지 정보와 함께 잘린 content 를 반환한다")
+		void should_format_page_with_metadata() {
+			// given
+			PageImpl<String> page = new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 10), 2);
+
+			// when
+			String formatted = AuditPayloadFormatter.format(page, 200);
+
+			// then
+			assertEquals("Page(number=0, size=10, totalElements=2, content=a, b)", formatted);
+		}
+
+		@Test
+		@DisplayName("목록을 담은 DTO 는 전체 toString() 대신 원소 단위로 잘라낸다")
+		void should_bound_list_holding_dto() {
+			// given
+			List<TodoSaveRequest> todos = IntStream.range(0, 500)
+				.mapToObj(i -> new TodoSaveRequest("title-" + i, "contents"))
+				.toList();
+
+			// when
+			String formatted = AuditPayloadFormatter.format(new TodoBulkSaveRequest(todos), 60);
+
+			// then
+			assertEquals("TodoBulkSaveRequest(todos=[TodoSaveRequest(title=title-0, co...(+499 more)])",
+				formatted);
+		}
+
+		@Test
+		@DisplayName("CursorResponse 는 다음 커서와 함께 잘린 content 를 반환한다")
+		void should_format_cursor_response() {
+			// when
+			String formatted = AuditPayloadFormatter.format(new CursorResponse<>(List.of("a", "b"), "next"), 200);
+
+			// then
+			assertEquals("CursorResponse(nextCursor=next, content=[a, b])", formatted);
+		}
+	}
+}
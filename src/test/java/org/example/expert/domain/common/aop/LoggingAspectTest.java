@@ -0,0 +1,102 @@
+package org.example.expert.domain.common.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.auth.controller.AuthController;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.todo.controller.TodoAdminController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@DisplayName("LoggingAspect 클래스")
+class LoggingAspectTest extends AbstractMockTest {
+
+	@Mock
+	private AuditLogWriter auditLogWriter;
+
+	@Mock
+	private ProceedingJoinPoint joinPoint;
+
+	@Mock
+	private MethodSignature signature;
+
+	private LoggingAspect loggingAspect;
+
+	@BeforeEach
+	void setUp() {
+		loggingAspect = new LoggingAspect(new AuditLogProperties(), auditLogWriter);
+		RequestContextHolder.setRequestAttributes(
+			new ServletRequestAttributes(new MockHttpServletRequest("POST", "/auth/logout")));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Nested
+	@DisplayName("loggingAround 메서드는")
+	class LoggingAroundMethod {
+
+		@Test
+		@DisplayName("Authorization 헤더 인자와 요청 본문의 토큰은 감사 로그에 남기지 않는다")
+		void should_redact_tokens() throws Throwable {
+			// given
+			Object[] args = {"Bearer access-token", new TokenRefreshRequest("refresh-token")};
+			given(joinPoint.getSignature()).willReturn(signature);
+			given(signature.getMethod())
+				.willReturn(AuthController.class.getMethod("logout", String.class, TokenRefreshRequest.class));
+			given(joinPoint.getArgs()).willReturn(args);
+			given(joinPoint.proceed()).willReturn(new SigninResponse("Bearer new-access", "new-refresh"));
+
+			// when
+			loggingAspect.loggingAround(joinPoint);
+
+			// then
+			ArgumentCaptor<AuditEvent> event = ArgumentCaptor.forClass(AuditEvent.class);
+			verify(auditLogWriter).publish(event.capture());
+			String payload = event.getValue().body() + event.getValue().response();
+			for (String token : new String[] {"access-token", "refresh-token", "new-access", "new-refresh"}) {
+				assertFalse(payload.contains(token), payload);
+			}
+			assertTrue(payload.startsWith("[REDACTED], "), payload);
+			assertEquals("Bearer access-token", args[0]);
+		}
+
+		@Test
+		@DisplayName("요청이 끝난 뒤 재사용되는 서블릿 응답은 요청 스레드에서 클래스 이름만 남긴다")
+		void should_format_args_on_request_thread() throws Throwable {
+			// given
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			given(joinPoint.getSignature()).willReturn(signature);
+			given(signature.getMethod())
+				.willReturn(TodoAdminController.class.getMethod("exportTodos", HttpServletResponse.class));
+			given(joinPoint.getArgs()).willReturn(new Object[] {response});
+
+			// when
+			loggingAspect.loggingAround(joinPoint);
+
+			// then
+			ArgumentCaptor<AuditEvent> event = ArgumentCaptor.forClass(AuditEvent.class);
+			verify(auditLogWriter).publish(event.capture());
+			assertEquals("MockHttpServletResponse", event.getValue().body());
+			assertEquals("null", event.getValue().response());
+		}
+	}
+}
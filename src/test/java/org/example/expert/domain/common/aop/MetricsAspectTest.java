@@ -0,0 +1,97 @@
+package org.example.expert.domain.common.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.metrics.controller.MetricsAdminController;
+import org.example.expert.domain.metrics.service.MetricsRegistry;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.CrudRepository;
+
+@DisplayName("MetricsAspect 클래스")
+class MetricsAspectTest extends AbstractMockTest {
+
+	@Mock
+	private ProceedingJoinPoint joinPoint;
+
+	@Mock
+	private MethodSignature signature;
+
+	@Mock
+	private TodoRepository todoRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	private MetricsRegistry metricsRegistry;
+
+	private MetricsAspect metricsAspect;
+
+	@BeforeEach
+	void setUp() {
+		metricsRegistry = new MetricsRegistry();
+		metricsAspect = new MetricsAspect(metricsRegistry);
+	}
+
+	@Nested
+	@DisplayName("timeController 메서드는")
+	class TimeControllerMethod {
+
+		@Test
+		@DisplayName("컨트롤러 호출을 컨트롤러와 메서드 이름의 히스토그램에 기록한다")
+		void should_record_controller_call() {
+			// given
+			AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new MetricsAdminController(metricsRegistry));
+			proxyFactory.setProxyTargetClass(true);
+			proxyFactory.addAspect(metricsAspect);
+			MetricsAdminController controller = proxyFactory.getProxy();
+
+			// when
+			controller.getMetrics();
+			controller.getMetrics();
+
+			// then
+			assertEquals(List.of("http.MetricsAdminController.getMetrics:2"), timers());
+		}
+	}
+
+	@Nested
+	@DisplayName("timeRepository 메서드는")
+	class TimeRepositoryMethod {
+
+		@Test
+		@DisplayName("같은 CrudRepository 메서드라도 리포지토리별 히스토그램에 나눠 기록한다")
+		void should_separate_shared_method_by_repository() throws Throwable {
+			// given
+			given(joinPoint.getSignature()).willReturn(signature);
+			given(signature.getMethod()).willReturn(CrudRepository.class.getMethod("save", Object.class));
+			given(joinPoint.getTarget()).willReturn(todoRepository, userRepository, todoRepository);
+
+			// when
+			for (int i = 0; i < 3; i++) {
+				metricsAspect.timeRepository(joinPoint);
+			}
+
+			// then
+			assertEquals(List.of("repository.TodoRepository.save:2", "repository.UserRepository.save:1"), timers());
+		}
+	}
+
+	private List<String> timers() {
+		return metricsRegistry.snapshot().getTimers().stream()
+			.map(timer -> timer.getName() + ":" + timer.getCount())
+			.toList();
+	}
+}
@@ -0,0 +1,49 @@
+package org.example.expert.domain.common.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.expert.domain.common.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CursorResponse 클래스")
+class CursorResponseTest {
+
+	private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	@Nested
+	@DisplayName("of 메서드는")
+	class OfMethod {
+
+		@Test
+		@DisplayName("size 보다 한 건 더 있으면 size 건만 담고 마지막 행으로 다음 커서를 만든다")
+		void should_slice_and_encode_last_row() {
+			// when
+			CursorResponse<Long> page = CursorResponse.of(List.of(1L, 2L, 3L), 2, id -> new Cursor(TIMESTAMP, id));
+
+			// then
+			assertEquals(List.of(1L, 2L), page.getContent());
+			assertTrue(page.isHasNext());
+			assertEquals(new Cursor(TIMESTAMP, 2L).encode(), page.getNextCursor());
+		}
+
+		@Test
+		@DisplayName("size 건 이하이면 마지막 페이지이므로 다음 커서가 없다")
+		void should_return_last_page_when_rows_fit() {
+			// when
+			CursorResponse<Long> exact = CursorResponse.of(List.of(1L, 2L), 2, id -> new Cursor(TIMESTAMP, id));
+			CursorResponse<Long> empty = CursorResponse.of(List.of(), 2, id -> new Cursor(TIMESTAMP, id));
+
+			// then
+			assertEquals(List.of(1L, 2L), exact.getContent());
+			assertFalse(exact.isHasNext());
+			assertNull(exact.getNextCursor());
+			assertTrue(empty.getContent().isEmpty());
+			assertFalse(empty.isHasNext());
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package org.example.expert.domain.common.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * IDENTITY 로 쌓인 데이터가 있는 DB 에서 다시 기동하는 상황을 흉내 낸다.
+ * 생성기가 아직 id 를 예약하지 않은 새 컨텍스트에 행을 직접 넣은 뒤 seed 를 호출하므로, 전략마다 테스트 하나씩만 둔다.
+ */
+@DataJpaTest(showSql = false)
+@Import({PooledIdSeeder.class, PooledIdAllocator.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PooledIdSeeder 클래스")
+class PooledIdSeederTest {
+
+	private static final long MAX_USER_ID = 120;
+	private static final long MAX_COMMENT_ID = 75;
+
+	@Autowired
+	private PooledIdSeeder pooledIdSeeder;
+
+	@Autowired
+	private PooledIdAllocator pooledIdAllocator;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.update("DELETE FROM comments");
+		jdbcTemplate.update("DELETE FROM managers");
+		jdbcTemplate.update("DELETE FROM todos");
+		jdbcTemplate.update("DELETE FROM users");
+
+		LocalDateTime now = LocalDateTime.now();
+		for (long id : new long[] {1, 2, MAX_USER_ID}) {
+			jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) "
+				+ "VALUES (?, ?, 'pw', 'USER', ?, ?)", id, id + "@a.com", now, now);
+		}
+		jdbcTemplate.update("INSERT INTO todos (id, title, contents, user_id, comment_count, manager_count, "
+			+ "created_at, modified_at) VALUES (1, 'title', 'contents', 1, 0, 0, ?, ?)", now, now);
+		for (long id = 1; id <= MAX_COMMENT_ID; id++) {
+			jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) "
+				+ "VALUES (?, 'contents', 1, 1, ?, ?)", id, now, now);
+		}
+	}
+
+	private List<Long> allocate(Class<?> entityType, int count) {
+		return new TransactionTemplate(transactionManager).execute(
+			status -> pooledIdAllocator.allocate(entityType, count));
+	}
+
+	private void assertAllocatedAfterExistingRows() {
+		// when
+		pooledIdSeeder.seed();
+		List<Long> userIds = allocate(User.class, 60);
+		pooledIdSeeder.seed();
+		List<Long> commentIds = allocate(Comment.class, 60);
+		userIds = concat(userIds, allocate(User.class, 60));
+
+		// then
+		assertEquals(120, userIds.stream().distinct().count());
+		assertEquals(60, commentIds.stream().distinct().count());
+		assertTrue(userIds.stream().allMatch(id -> id > MAX_USER_ID));
+		assertTrue(commentIds.stream().allMatch(id -> id > MAX_COMMENT_ID));
+	}
+
+	private static List<Long> concat(List<Long> first, List<Long> second) {
+		return Stream.concat(first.stream(), second.stream()).toList();
+	}
+
+	@Nested
+	@DisplayName("sequence 방식에서 seed 메서드는")
+	class SequenceStrategy {
+
+		@Test
+		@DisplayName("시퀀스를 기존 MAX(id) 뒤로 옮기고, 다시 호출해도 이미 예약된 범위로 되돌리지 않는다")
+		void should_advance_sequence_past_existing_rows() {
+			assertAllocatedAfterExistingRows();
+		}
+	}
+
+	@Nested
+	@TestPropertySource(properties = "persistence.id.strategy=table")
+	@DisplayName("table 방식에서 seed 메서드는")
+	class TableStrategy {
+
+		@Test
+		@DisplayName("hi/lo 행을 기존 MAX(id) 뒤로 옮기고, 다시 호출해도 이미 예약된 범위로 되돌리지 않는다")
+		void should_advance_table_past_existing_rows() {
+			assertAllocatedAfterExistingRows();
+		}
+	}
+}
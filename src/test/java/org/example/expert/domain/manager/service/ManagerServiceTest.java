@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("ManagerService 클래스")
@@ -39,6 +42,12 @@ class ManagerServiceTest extends AbstractMockTest {
 	@Mock
 	private TodoRepository todoRepository;
 
+	@Mock
+	private TodoCache todoCache;
+
+	@Spy
+	private ManagerCache managerCache = new ManagerCache(true, 100, Duration.ofMinutes(1));
+
 	@InjectMocks
 	private ManagerService managerService;
 
@@ -55,23 +64,17 @@ class ManagerServiceTest extends AbstractMockTest {
 			void should_return_manager_list_successfully() {
 				// given
 				long todoId = 1L;
-				User user = new User("user1@example.com", "password", UserRole.USER);
-				Todo todo = new Todo("Title", "Contents", "Sunny", user);
-				ReflectionTestUtils.setField(todo, "id", todoId);
+				ManagerResponse managerResponse = new ManagerResponse(1L, 1L, "user1@example.com");
 
-				Manager mockManager = new Manager(todo.getUser(), todo);
-				List<Manager> managerList = List.of(mockManager);
-
-				given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-				given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+				given(managerRepository.findResponsesJoiningTodo(todoId)).willReturn(List.of(managerResponse));
 
 				// when
 				List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
 
 				// then
 				assertEquals(1, managerResponses.size());
-				assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-				assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+				assertEquals(managerResponse.getId(), managerResponses.get(0).getId());
+				assertEquals("user1@example.com", managerResponses.get(0).getUser().getEmail());
 			}
 
 			@Test
@@ -79,14 +82,10 @@ class ManagerServiceTest extends AbstractMockTest {
 			void should_return_empty_list_when_no_managers() {
 				// given
 				long todoId = 1L;
-				User user = new User("user1@example.com", "password", UserRole.USER);
-				Todo todo = new Todo("Title", "Contents", "Sunny", user);
-				ReflectionTestUtils.setField(todo, "id", todoId);
 
-				List<Manager> emptyList = List.of();
-
-				given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-				given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(emptyList);
+				// 일정은 있지만 담당자가 없으면 LEFT JOIN 결과로 id 가 null 인 한 행이 조회된다
+				given(managerRepository.findResponsesJoiningTodo(todoId))
+					.willReturn(List.of(new ManagerResponse(null, null, null)));
 
 				// when
 				List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -94,6 +93,23 @@ class ManagerServiceTest extends AbstractMockTest {
 				// then
 				assertEquals(0, managerResponses.size());
 			}
+
+			@Test
+			@DisplayName("같은 Todo를 다시 조회하면 캐시된 목록을 반환한다")
+			void should_return_cached_managers_on_second_call() {
+				// given
+				long todoId = 1L;
+				given(managerRepository.findResponsesJoiningTodo(todoId))
+					.willReturn(List.of(new ManagerResponse(1L, 1L, "user1@example.com")));
+
+				// when
+				managerService.getManagers(todoId);
+				List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+
+				// then
+				assertEquals(1, managerResponses.size());
+				verify(managerRepository, times(1)).findResponsesJoiningTodo(todoId);
+			}
 		}
 
 		@Nested
@@ -105,7 +121,7 @@ class ManagerServiceTest extends AbstractMockTest {
 			void should_throw_exception_when_todo_not_found() {
 				// given
 				long todoId = 1L;
-				given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+				given(managerRepository.findResponsesJoiningTodo(todoId)).willReturn(List.of());
 
 				// when & then
 				InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -128,19 +144,14 @@ class ManagerServiceTest extends AbstractMockTest {
 			void should_save_manager_successfully() {
 				// given
 				AuthUser authUser = new AuthUser(1L, "test1@test.com", UserRole.USER);
-				User user = User.fromAuthUser(authUser);  // 일정을 만든 유저
 
 				long todoId = 1L;
-				Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
-
 				long managerUserId = 2L;
-				User managerUser = new User("test2@test.com", "password", UserRole.USER);  // 매니저로 등록할 유저
-				ReflectionTestUtils.setField(managerUser, "id", managerUserId);
 
 				ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-				given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-				given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+				given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(authUser.getId()));
+				given(userRepository.findEmailById(managerUserId)).willReturn(Optional.of("test2@test.com"));
 				given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
 				// when
@@ -148,8 +159,13 @@ class ManagerServiceTest extends AbstractMockTest {
 
 				// then
 				assertNotNull(response);
-				assertEquals(managerUser.getId(), response.getUser().getId());
-				assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+				assertEquals(managerUserId, response.getUser().getId());
+				assertEquals("test2@test.com", response.getUser().getEmail());
+				verify(todoRepository, never()).findById(anyLong());
+				verify(userRepository, never()).findById(anyLong());
+				verify(todoRepository).addManagerCount(todoId, 1);
+				verify(managerCache).evict(todoId);
+				verify(todoCache).evict(todoId);
 			}
 		}
 
@@ -158,19 +174,16 @@ class ManagerServiceTest extends AbstractMockTest {
 		class FailureCase {
 
 			@Test
-			@DisplayName("Todo의 user가 null인 경우 예외가 발생한다")
-			void should_throw_exception_when_todo_user_is_null() {
+			@DisplayName("요청한 유저가 Todo 작성자가 아니면 예외가 발생한다")
+			void should_throw_exception_when_requester_is_not_todo_owner() {
 				// given
 				AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
 				long todoId = 1L;
 				long managerUserId = 2L;
 
-				Todo todo = new Todo();
-				ReflectionTestUtils.setField(todo, "user", null);
-
 				ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-				given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+				given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(3L));
 
 				// when & then
 				InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -190,7 +203,7 @@ class ManagerServiceTest extends AbstractMockTest {
 
 				ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-				given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+				given(todoRepository.findUserIdById(todoId)).willReturn(Optional.empty());
 
 				// when & then
 				InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -205,15 +218,13 @@ class ManagerServiceTest extends AbstractMockTest {
 			void should_throw_exception_when_manager_user_not_found() {
 				// given
 				AuthUser authUser = new AuthUser(1L, "test1@test.com", UserRole.USER);
-				User user = User.fromAuthUser(authUser);
 				long todoId = 1L;
 				long managerUserId = 2L;
 
-				Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
 				ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-				given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-				given(userRepository.findById(managerUserId)).willReturn(Optional.empty());
+				given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(authUser.getId()));
+				given(userRepository.findEmailById(managerUserId)).willReturn(Optional.empty());
 
 				// when & then
 				InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -261,6 +272,9 @@ class ManagerServiceTest extends AbstractMockTest {
 				// when & then
 				assertDoesNotThrow(() -> managerService.deleteManager(userId, todoId, managerId));
 				verify(managerRepository, times(1)).delete(manager);
+				verify(todoRepository).addManagerCount(todoId, -1);
+				verify(managerCache).evict(todoId);
+				verify(todoCache).evict(todoId);
 			}
 		}
 
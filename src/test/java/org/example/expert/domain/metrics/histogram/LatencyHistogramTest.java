@@ -0,0 +1,59 @@
+package org.example.expert.domain.metrics.histogram;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencyHistogram 클래스")
+class LatencyHistogramTest {
+
+	@Nested
+	@DisplayName("snapshot 메서드는")
+	class SnapshotMethod {
+
+		@Test
+		@DisplayName("기록된 값의 백분위를 2% 오차 이내로 계산한다")
+		void should_calculate_percentiles_within_relative_error() {
+			// given
+			LatencyHistogram histogram = new LatencyHistogram();
+			for (long micros = 1; micros <= 10_000; micros++) {
+				histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+			}
+
+			// when
+			LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+			// then
+			assertEquals(10_000, snapshot.getCount());
+			assertEquals(5_000_000, snapshot.getValueAtPercentile(50), 5_000_000 * 0.02);
+			assertEquals(9_500_000, snapshot.getValueAtPercentile(95), 9_500_000 * 0.02);
+			assertEquals(9_900_000, snapshot.getValueAtPercentile(99), 9_900_000 * 0.02);
+			assertEquals(10_000_000, snapshot.getMaxNanos());
+		}
+
+		@Test
+		@DisplayName("기록이 없으면 0을 반환한다")
+		void should_return_zero_when_empty() {
+			// when
+			LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+			// then
+			assertEquals(0, snapshot.getCount());
+			assertEquals(0, snapshot.getValueAtPercentile(99));
+		}
+	}
+
+	@Test
+	@DisplayName("버킷 인덱스와 버킷 상한값은 서로 일관된다")
+	void bucket_index_and_highest_value_are_consistent() {
+		for (long value = 0; value < 1_000_000; value += 7) {
+			int index = LatencyHistogram.indexOf(value);
+			assertTrue(LatencyHistogram.highestValueOf(index) >= value);
+			assertTrue(index == 0 || LatencyHistogram.highestValueOf(index - 1) < value);
+		}
+	}
+}
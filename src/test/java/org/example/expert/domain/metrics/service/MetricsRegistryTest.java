@@ -0,0 +1,67 @@
+package org.example.expert.domain.metrics.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.metrics.dto.response.MetricsResponse;
+import org.example.expert.domain.metrics.dto.response.TimerMetricResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MetricsRegistry 클래스")
+class MetricsRegistryTest {
+
+	@Nested
+	@DisplayName("snapshot 메서드는")
+	class SnapshotMethod {
+
+		@Test
+		@DisplayName("이름별 히스토그램을 이름 순으로 반환하고 게이지는 읽는 시점의 값을 반환한다")
+		void should_return_timers_by_name_and_current_gauges() {
+			// given
+			MetricsRegistry metricsRegistry = new MetricsRegistry();
+			metricsRegistry.record("repository.TodoRepository.save", TimeUnit.MILLISECONDS.toNanos(2));
+			metricsRegistry.record("http.TodoController.getTodos", TimeUnit.MILLISECONDS.toNanos(10));
+			metricsRegistry.record("http.TodoController.getTodos", TimeUnit.MILLISECONDS.toNanos(10));
+			long[] queued = {3};
+			metricsRegistry.registerGauge("comment.write-behind.pending", () -> queued[0]);
+			queued[0] = 5;
+
+			// when
+			MetricsResponse snapshot = metricsRegistry.snapshot();
+
+			// then
+			List<TimerMetricResponse> timers = snapshot.getTimers();
+			assertEquals(List.of("http.TodoController.getTodos", "repository.TodoRepository.save"),
+				timers.stream().map(TimerMetricResponse::getName).toList());
+			assertEquals(2, timers.get(0).getCount());
+			assertEquals(10.0, timers.get(0).getMaxMillis(), 10.0 * 0.02);
+			assertEquals(Map.of("comment.write-behind.pending", 5L), snapshot.getGauges());
+		}
+	}
+
+	@Nested
+	@DisplayName("reset 메서드는")
+	class ResetMethod {
+
+		@Test
+		@DisplayName("기록을 비우되 지표 이름은 남긴다")
+		void should_clear_records_but_keep_names() {
+			// given
+			MetricsRegistry metricsRegistry = new MetricsRegistry();
+			metricsRegistry.record("http.TodoController.getTodos", TimeUnit.MILLISECONDS.toNanos(10));
+
+			// when
+			metricsRegistry.reset();
+
+			// then
+			List<TimerMetricResponse> timers = metricsRegistry.snapshot().getTimers();
+			assertEquals(1, timers.size());
+			assertEquals(0, timers.get(0).getCount());
+		}
+	}
+}
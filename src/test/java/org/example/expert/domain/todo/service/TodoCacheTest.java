@@ -0,0 +1,126 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@DisplayName("TodoCache 클래스")
+class TodoCacheTest {
+
+	private final AtomicInteger loadCount = new AtomicInteger();
+	private final Function<Long, TodoResponse> loader = todoId -> {
+		loadCount.incrementAndGet();
+		LocalDateTime now = LocalDateTime.now();
+		return new TodoResponse(todoId, "title", "contents", "Sunny", 1L, "a@a.com", now, now, 0, 0);
+	};
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Nested
+	@DisplayName("get 메서드는")
+	class GetMethod {
+
+		@Test
+		@DisplayName("처음에는 loader 로 읽고 이후에는 캐시에서 꺼낸다")
+		void should_load_on_miss_and_serve_hits_from_cache() {
+			// given
+			TodoCache todoCache = new TodoCache(true, 100, Duration.ofMinutes(5));
+
+			// when
+			TodoResponse first = todoCache.get(1L, loader);
+			TodoResponse second = todoCache.get(1L, loader);
+
+			// then
+			assertSame(first, second);
+			assertEquals(1, loadCount.get());
+			assertEquals(1, todoCache.getStats().hitCount());
+			assertEquals(1, todoCache.getStats().missCount());
+		}
+
+		@Test
+		@DisplayName("꺼져 있으면 매번 loader 로 읽고 저장하지 않는다")
+		void should_always_load_when_disabled() {
+			// given
+			TodoCache todoCache = new TodoCache(false, 100, Duration.ofMinutes(5));
+
+			// when
+			todoCache.get(1L, loader);
+			todoCache.get(1L, loader);
+
+			// then
+			assertEquals(2, loadCount.get());
+			assertEquals(0, todoCache.getSize());
+		}
+	}
+
+	@Nested
+	@DisplayName("evict 메서드는")
+	class EvictMethod {
+
+		@Test
+		@DisplayName("트랜잭션 밖에서는 바로 지운다")
+		void should_evict_immediately_outside_transaction() {
+			// given
+			TodoCache todoCache = new TodoCache(true, 100, Duration.ofMinutes(5));
+			todoCache.get(1L, loader);
+
+			// when
+			todoCache.evict(1L);
+			todoCache.get(1L, loader);
+
+			// then
+			assertEquals(2, loadCount.get());
+		}
+
+		@Test
+		@DisplayName("트랜잭션 안에서는 바로 지우고, 커밋 전에 다시 적재된 옛 값도 커밋 후에 한 번 더 지운다")
+		void should_evict_again_after_commit() {
+			// given
+			TodoCache todoCache = new TodoCache(true, 100, Duration.ofMinutes(5));
+			todoCache.get(1L, loader);
+			TransactionSynchronizationManager.initSynchronization();
+
+			// when
+			todoCache.evict(1L);
+			todoCache.get(1L, loader); // 커밋 전에 다른 요청이 옛 값을 다시 적재
+			TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+			todoCache.get(1L, loader);
+
+			// then
+			assertEquals(3, loadCount.get());
+		}
+
+		@Test
+		@DisplayName("evictAll 은 주어진 일정들을 모두 지운다")
+		void should_evict_all_given_todos() {
+			// given
+			TodoCache todoCache = new TodoCache(true, 100, Duration.ofMinutes(5));
+			todoCache.get(1L, loader);
+			todoCache.get(2L, loader);
+			todoCache.get(3L, loader);
+
+			// when
+			todoCache.evictAll(List.of(1L, 2L));
+
+			// then
+			assertEquals(1, todoCache.getSize());
+		}
+	}
+}
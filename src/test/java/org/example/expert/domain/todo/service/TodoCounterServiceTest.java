@@ -0,0 +1,132 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.response.TodoCounterRebuildResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * TodoRepository.findCounterRows 의 집계 쿼리까지 함께 확인하도록 H2 위에서 실행한다.
+ * 서비스가 chunk 마다 직접 트랜잭션을 열기 때문에 테스트 트랜잭션은 끄고 매번 데이터를 새로 넣는다.
+ */
+@DataJpaTest(showSql = false)
+@Import({TodoCounterService.class, PersistenceConfig.class})
+@TestPropertySource(properties = "todo.counter.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("TodoCounterService 클래스")
+class TodoCounterServiceTest {
+
+	@Autowired
+	private TodoCounterService todoCounterService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private TodoCache todoCache;
+
+	/**
+	 * 1번: 댓글 2건인데 카운터 0 (drift)
+	 * 2번: 댓글 1건, 담당자 1명으로 카운터와 일치
+	 * 3번: 댓글 0건인데 카운터 5, 담당자 1명인데 카운터 0 (drift)
+	 */
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.update("DELETE FROM comments");
+		jdbcTemplate.update("DELETE FROM managers");
+		jdbcTemplate.update("DELETE FROM todos");
+		jdbcTemplate.update("DELETE FROM users");
+
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) "
+			+ "VALUES (1, 'a@a.com', 'pw', 'USER', ?, ?)", now, now);
+		insertTodo(1, 0, 0, now);
+		insertTodo(2, 1, 1, now);
+		insertTodo(3, 5, 0, now);
+		insertComment(1, 1, now);
+		insertComment(2, 1, now);
+		insertComment(3, 2, now);
+		insertManager(1, 2);
+		insertManager(2, 3);
+	}
+
+	private void insertTodo(long id, long commentCount, long managerCount, LocalDateTime now) {
+		jdbcTemplate.update("INSERT INTO todos (id, title, contents, user_id, comment_count, manager_count, "
+			+ "created_at, modified_at) VALUES (?, 'title', 'contents', 1, ?, ?, ?, ?)",
+			id, commentCount, managerCount, now, now);
+	}
+
+	private void insertComment(long id, long todoId, LocalDateTime now) {
+		jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) "
+			+ "VALUES (?, 'contents', 1, ?, ?, ?)", id, todoId, now, now);
+	}
+
+	private void insertManager(long id, long todoId) {
+		jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (?, 1, ?)", id, todoId);
+	}
+
+	private List<Long> counters(long todoId) {
+		return jdbcTemplate.queryForObject("SELECT comment_count, manager_count FROM todos WHERE id = ?",
+			(rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2)), todoId);
+	}
+
+	@Nested
+	@DisplayName("detectDrift 메서드는")
+	class DetectDriftMethod {
+
+		@Test
+		@DisplayName("chunk 를 넘겨 가며 모든 일정을 읽고 어긋난 일정 수만 보고하며 카운터는 바꾸지 않는다")
+		void should_report_drift_without_writing() {
+			// when
+			TodoCounterRebuildResponse result = todoCounterService.detectDrift();
+
+			// then
+			assertFalse(result.isCorrected());
+			assertEquals(3, result.getScannedCount());
+			assertEquals(2, result.getDriftedCount());
+			assertEquals(List.of(0L, 0L), counters(1));
+			assertEquals(List.of(5L, 0L), counters(3));
+			verify(todoCache, never()).evictAll(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("rebuild 메서드는")
+	class RebuildMethod {
+
+		@Test
+		@DisplayName("어긋난 일정에 차이만큼 증감을 반영하고 chunk 별로 해당 일정의 캐시를 지운다")
+		void should_apply_deltas_and_evict_cache() {
+			// when
+			TodoCounterRebuildResponse result = todoCounterService.rebuild();
+
+			// then
+			assertTrue(result.isCorrected());
+			assertEquals(3, result.getScannedCount());
+			assertEquals(2, result.getDriftedCount());
+			assertEquals(List.of(2L, 0L), counters(1));
+			assertEquals(List.of(1L, 1L), counters(2));
+			assertEquals(List.of(0L, 1L), counters(3));
+			verify(todoCache).evictAll(List.of(1L));
+			verify(todoCache).evictAll(List.of(3L));
+			assertEquals(0, todoCounterService.detectDrift().getDriftedCount());
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.comment.dto.response.TodoCommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.persistence.EntityManager;
+
+@DisplayName("TodoExportService 클래스")
+class TodoExportServiceTest extends AbstractMockTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+		.findAndAddModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+
+	@Mock
+	private TodoRepository todoRepository;
+
+	@Mock
+	private CommentRepository commentRepository;
+
+	@Mock
+	private ManagerRepository managerRepository;
+
+	@Mock
+	private EntityManager entityManager;
+
+	private TodoExportService todoExportService;
+
+	@BeforeEach
+	void setUp() {
+		todoExportService = new TodoExportService(todoRepository, commentRepository, managerRepository, entityManager,
+			objectMapper);
+		ReflectionTestUtils.setField(todoExportService, "chunkSize", 2);
+	}
+
+	@Nested
+	@DisplayName("exportTodos 메서드는")
+	class ExportTodosMethod {
+
+		@Test
+		@DisplayName("일정마다 댓글과 담당자를 담은 JSON 한 줄을 쓰고, 댓글은 chunk 단위 커서로, 담당자는 IN 조회로 가져온다")
+		void should_write_one_json_line_per_todo() throws Exception {
+			// given
+			User user = user(1L, "a@a.com");
+			Todo first = todo(10L, "first", user);
+			Todo second = todo(20L, "second", user);
+			Todo third = todo(30L, "third", user);
+			given(todoRepository.streamAllWithUser()).willReturn(Stream.of(first, second, third));
+			AtomicInteger closedCursors = new AtomicInteger();
+			given(commentRepository.streamResponsesByTodoIdIn(List.of(10L, 20L)))
+				.willReturn(Stream.of(comment(10L, 100L, "c1"), comment(10L, 101L, "c2"))
+					.onClose(closedCursors::incrementAndGet));
+			given(commentRepository.streamResponsesByTodoIdIn(List.of(30L)))
+				.willReturn(Stream.of(comment(30L, 102L, "c3")).onClose(closedCursors::incrementAndGet));
+			given(managerRepository.findAllByTodoIdInWithUser(List.of(10L, 20L)))
+				.willReturn(List.of(manager(200L, user, second)));
+			given(managerRepository.findAllByTodoIdInWithUser(List.of(30L))).willReturn(List.of());
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			// when
+			long exported = todoExportService.exportTodos(output);
+
+			// then
+			String ndjson = output.toString(StandardCharsets.UTF_8);
+			assertEquals(3, exported);
+			assertTrue(ndjson.endsWith("\n"));
+			List<String> lines = ndjson.lines().toList();
+			assertEquals(3, lines.size());
+
+			JsonNode firstLine = objectMapper.readTree(lines.get(0));
+			assertEquals(10L, firstLine.get("id").asLong());
+			assertEquals("a@a.com", firstLine.get("user").get("email").asText());
+			assertEquals(List.of("c1", "c2"), firstLine.get("comments").findValuesAsText("contents"));
+			assertEquals(100L, firstLine.get("comments").get(0).get("id").asLong());
+			assertEquals(0, firstLine.get("managers").size());
+
+			JsonNode secondLine = objectMapper.readTree(lines.get(1));
+			assertEquals(0, secondLine.get("comments").size());
+			assertEquals(200L, secondLine.get("managers").get(0).get("id").asLong());
+
+			JsonNode thirdLine = objectMapper.readTree(lines.get(2));
+			assertEquals(List.of("c3"), thirdLine.get("comments").findValuesAsText("contents"));
+
+			verify(commentRepository, times(2)).streamResponsesByTodoIdIn(anyCollection());
+			assertEquals(2, closedCursors.get());
+			verify(entityManager, times(2)).clear();
+		}
+
+		@Test
+		@DisplayName("일정이 없으면 아무것도 쓰지 않는다")
+		void should_write_nothing_when_no_todos() throws Exception {
+			// given
+			given(todoRepository.streamAllWithUser()).willReturn(Stream.empty());
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			// when
+			long exported = todoExportService.exportTodos(output);
+
+			// then
+			assertEquals(0, exported);
+			assertEquals(0, output.size());
+			verifyNoInteractions(commentRepository, managerRepository);
+		}
+	}
+
+	private static User user(long id, String email) {
+		User user = new User(email, "pw", UserRole.USER);
+		ReflectionTestUtils.setField(user, "id", id);
+		return user;
+	}
+
+	private static Todo todo(long id, String title, User user) {
+		Todo todo = new Todo(title, "contents", "Sunny", user);
+		ReflectionTestUtils.setField(todo, "id", id);
+		return todo;
+	}
+
+	private static TodoCommentResponse comment(long todoId, long id, String contents) {
+		return new TodoCommentResponse(todoId, id, contents, 1L, "a@a.com", LocalDateTime.now());
+	}
+
+	private static Manager manager(long id, User user, Todo todo) {
+		Manager manager = new Manager(user, todo);
+		ReflectionTestUtils.setField(manager, "id", id);
+		return manager;
+	}
+}
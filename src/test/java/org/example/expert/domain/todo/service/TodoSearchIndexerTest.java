@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoSearchTerm;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("TodoSearchIndexer 클래스")
+class TodoSearchIndexerTest extends AbstractMockTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Nested
+	@DisplayName("tokenize 메서드는")
+	class TokenizeMethod {
+
+		@Test
+		@DisplayName("글자와 숫자가 아닌 문자로 나누고 소문자로 바꾼 뒤 중복을 제거한다")
+		void should_split_lowercase_and_deduplicate() {
+			// when
+			List<String> terms = TodoSearchIndexer.tokenize("Weekly 회의를, 3시에!", "weekly REPORT-2024");
+
+			// then
+			assertEquals(List.of("weekly", "회의를", "3시에", "report", "2024"), terms);
+		}
+
+		@Test
+		@DisplayName("최대 길이를 넘는 단어는 잘라서 저장한다")
+		void should_truncate_long_terms() {
+			// when
+			List<String> terms = TodoSearchIndexer.tokenize("a".repeat(TodoSearchTerm.MAX_TERM_LENGTH + 10), null);
+
+			// then
+			assertEquals(List.of("a".repeat(TodoSearchTerm.MAX_TERM_LENGTH)), terms);
+		}
+	}
+
+	@Nested
+	@DisplayName("index 메서드는")
+	class IndexMethod {
+
+		@Test
+		@DisplayName("일정의 제목과 내용 단어를 일정 id 와 함께 한 번의 배치로 기록한다")
+		void should_insert_terms_in_one_batch() {
+			// given
+			TodoSearchIndexer indexer = new TodoSearchIndexer(jdbcTemplate, transactionManager, 100);
+			Todo todo = new Todo("Team meeting", "meeting notes", null, new User("a@a.com", "pw", UserRole.USER));
+			ReflectionTestUtils.setField(todo, "id", 7L);
+
+			// when
+			indexer.index(List.of(todo));
+
+			// then
+			verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO todo_search_terms"),
+				argThat((List<Object[]> rows) -> rows.stream().map(row -> row[0] + ":" + row[1]).toList()
+					.equals(List.of("team:7", "meeting:7", "notes:7"))));
+		}
+	}
+
+	@Nested
+	@DisplayName("rebuild 메서드는")
+	class RebuildMethod {
+
+		@Test
+		@DisplayName("chunk 에서 읽은 일정의 단어만 다시 쓰고 id 구간으로는 지우지 않으며 일정이 없는 단어를 마지막에 지운다")
+		void should_reindex_only_read_todos() {
+			// given
+			TodoSearchIndexer indexer = new TodoSearchIndexer(jdbcTemplate, transactionManager, 2);
+			given(jdbcTemplate.query(startsWith("SELECT id, title, contents FROM todos"), ArgumentMatchers.<RowMapper<Object[]>>any(),
+				anyLong(), anyInt()))
+				.willReturn(List.<Object[]>of(new Object[] {3L, "alpha", null}, new Object[] {8L, "beta", null}))
+				.willReturn(List.of());
+
+			// when
+			long indexed = indexer.rebuild();
+
+			// then
+			assertEquals(2, indexed);
+			verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<Object[]>>any(), eq(0L), eq(2));
+			verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<Object[]>>any(), eq(8L), eq(2));
+			verify(jdbcTemplate).batchUpdate(eq("DELETE FROM todo_search_terms WHERE todo_id = ?"),
+				argThat((List<Object[]> ids) -> ids.stream().map(id -> id[0]).toList().equals(List.of(3L, 8L))));
+			verify(jdbcTemplate).update(contains("NOT EXISTS (SELECT 1 FROM todos t"));
+			verify(jdbcTemplate, never()).update(contains("todo_id >"), any(Object[].class));
+		}
+	}
+}
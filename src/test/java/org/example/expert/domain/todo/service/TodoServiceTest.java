@@ -0,0 +1,235 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.cursor.Cursor;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.ManagerCache;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("TodoService 클래스")
+class TodoServiceTest extends AbstractMockTest {
+
+	private static final AuthUser AUTH_USER = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+	@Mock
+	private TodoRepository todoRepository;
+
+	@Mock
+	private WeatherClient weatherClient;
+
+	@Mock
+	private TodoCache todoCache;
+
+	@Mock
+	private TodoSearchIndexer todoSearchIndexer;
+
+	@Mock
+	private CommentRepository commentRepository;
+
+	@Mock
+	private ManagerRepository managerRepository;
+
+	@Mock
+	private ManagerCache managerCache;
+
+	@InjectMocks
+	private TodoService todoService;
+
+	@Nested
+	@DisplayName("deleteTodo 메서드는")
+	class DeleteTodoMethod {
+
+		@Test
+		@DisplayName("자식 행을 일정 id 기준 벌크 DELETE 로 먼저 지운 뒤 일정을 지우고 캐시를 비운다")
+		void should_bulk_delete_children_then_todo() {
+			// given
+			long todoId = 1L;
+			given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(AUTH_USER.getId()));
+
+			// when
+			todoService.deleteTodo(AUTH_USER, todoId);
+
+			// then
+			InOrder inOrder = inOrder(commentRepository, managerRepository, todoSearchIndexer, todoRepository);
+			inOrder.verify(commentRepository).deleteAllByTodoIdInBulk(todoId);
+			inOrder.verify(managerRepository).deleteAllByTodoIdInBulk(todoId);
+			inOrder.verify(todoSearchIndexer).delete(todoId);
+			inOrder.verify(todoRepository).deleteTodoById(todoId);
+			verify(todoRepository, never()).delete(any());
+			verify(todoCache).evict(todoId);
+			verify(managerCache).evict(todoId);
+		}
+
+		@Test
+		@DisplayName("일정이 없으면 InvalidRequestException 이 발생한다")
+		void should_throw_exception_when_todo_not_found() {
+			// given
+			given(todoRepository.findUserIdById(1L)).willReturn(Optional.empty());
+
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> todoService.deleteTodo(AUTH_USER, 1L));
+
+			// then
+			assertEquals("Todo not found", exception.getMessage());
+		}
+
+		@Test
+		@DisplayName("일정을 만든 유저가 아니면 아무것도 지우지 않고 InvalidRequestException 이 발생한다")
+		void should_throw_exception_when_not_owner() {
+			// given
+			given(todoRepository.findUserIdById(1L)).willReturn(Optional.of(2L));
+
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> todoService.deleteTodo(AUTH_USER, 1L));
+
+			// then
+			assertEquals("일정을 만든 유저만 일정을 삭제할 수 있습니다.", exception.getMessage());
+			verifyNoInteractions(commentRepository, managerRepository, todoSearchIndexer);
+			verify(todoRepository, never()).deleteTodoById(anyLong());
+		}
+	}
+
+	@Nested
+	@DisplayName("getTodosByCursor 메서드는")
+	class GetTodosByCursorMethod {
+
+		@Test
+		@DisplayName("size 보다 한 건 더 조회해 다음 페이지가 있으면 마지막 일정으로 커서를 만든다")
+		void should_build_next_cursor_from_last_row() {
+			// given
+			LocalDateTime now = LocalDateTime.now();
+			given(todoRepository.findTodoResponses(Limit.of(3)))
+				.willReturn(List.of(todo(3L, now), todo(2L, now.minusSeconds(1)), todo(1L, now.minusSeconds(2))));
+
+			// when
+			CursorResponse<TodoResponse> page = todoService.getTodosByCursor("", 2);
+
+			// then
+			assertEquals(List.of(3L, 2L), page.getContent().stream().map(TodoResponse::getId).toList());
+			assertTrue(page.isHasNext());
+			Cursor next = Cursor.decode(page.getNextCursor());
+			assertEquals(2L, next.getId());
+			assertEquals(now.minusSeconds(1), next.getTimestamp());
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = {-1, 0, CursorResponse.MAX_SIZE + 1})
+		@DisplayName("size 가 1 미만이거나 최대값을 넘으면 조회하지 않고 InvalidRequestException 이 발생한다")
+		void should_reject_invalid_size(int size) {
+			// when & then
+			assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("", size));
+			verifyNoInteractions(todoRepository);
+		}
+	}
+
+	@Nested
+	@DisplayName("searchTodos 메서드는")
+	class SearchTodosMethod {
+
+		@BeforeEach
+		void setUp() {
+			ReflectionTestUtils.setField(todoService, "maxSearchTerms", 5);
+		}
+
+		private TodoSearchCondition searchAndCaptureCondition(LocalDate from, LocalDate to, String keyword) {
+			given(todoRepository.search(any(), any(), anyInt())).willReturn(List.of());
+			todoService.searchTodos(null, null, from, to, keyword, null, 10);
+
+			ArgumentCaptor<TodoSearchCondition> condition = ArgumentCaptor.forClass(TodoSearchCondition.class);
+			verify(todoRepository).search(condition.capture(), isNull(), eq(11));
+			return condition.getValue();
+		}
+
+		@Test
+		@DisplayName("기간은 from 0시부터 to 다음 날 0시 전까지로 바꿔 to 날짜를 포함한다")
+		void should_include_whole_to_date() {
+			// when
+			TodoSearchCondition condition = searchAndCaptureCondition(
+				LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), null);
+
+			// then
+			assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), condition.getModifiedFrom());
+			assertEquals(LocalDateTime.of(2024, 2, 1, 0, 0), condition.getModifiedTo());
+		}
+
+		@Test
+		@DisplayName("검색어는 구분자로 나눈 소문자 단어 목록으로 조회한다")
+		void should_tokenize_keyword() {
+			// when
+			TodoSearchCondition condition = searchAndCaptureCondition(null, null, "Spring, JPA");
+
+			// then
+			assertEquals(List.of("spring", "jpa"), condition.getTerms());
+		}
+
+		@Test
+		@DisplayName("검색어가 구분자로만 이뤄져 단어가 없으면 검색어 조건 없이 조회한다")
+		void should_search_without_terms_when_keyword_has_no_words() {
+			// when
+			TodoSearchCondition condition = searchAndCaptureCondition(null, null, " ,.!? ");
+
+			// then
+			assertTrue(condition.getTerms().isEmpty());
+		}
+
+		@Test
+		@DisplayName("검색어 단어가 max-terms 를 넘으면 조회하지 않고 InvalidRequestException 이 발생한다")
+		void should_reject_too_many_terms() {
+			// given
+			ReflectionTestUtils.setField(todoService, "maxSearchTerms", 2);
+
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> todoService.searchTodos(null, null, null, null, "a b c", null, 10));
+
+			// then
+			assertEquals("검색어는 최대 2개 단어까지 입력할 수 있습니다.", exception.getMessage());
+			verifyNoInteractions(todoRepository);
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = {0, CursorResponse.MAX_SIZE + 1})
+		@DisplayName("size 가 범위를 벗어나면 조회하지 않고 InvalidRequestException 이 발생한다")
+		void should_reject_invalid_size(int size) {
+			// when & then
+			assertThrows(InvalidRequestException.class,
+				() -> todoService.searchTodos(null, null, null, null, null, null, size));
+			verifyNoInteractions(todoRepository);
+		}
+	}
+
+	private static TodoResponse todo(long id, LocalDateTime modifiedAt) {
+		return new TodoResponse(id, "title", "contents", "Sunny", 1L, "a@a.com", modifiedAt, modifiedAt, 0, 0);
+	}
+}
@@ -0,0 +1,105 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoWeatherEnrichmentResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("TodoWeatherEnricher 클래스")
+class TodoWeatherEnricherTest extends AbstractMockTest {
+
+	@Mock
+	private TodoRepository todoRepository;
+
+	@Mock
+	private WeatherClient weatherClient;
+
+	@Mock
+	private TodoCache todoCache;
+
+	@InjectMocks
+	private TodoWeatherEnricher todoWeatherEnricher;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(todoWeatherEnricher, "enabled", true);
+		ReflectionTestUtils.setField(todoWeatherEnricher, "batchSize", 10);
+	}
+
+	private Todo pendingTodo(long id, LocalDateTime createdAt) {
+		Todo todo = new Todo("title", "contents", null, new User("a@a.com", "password", UserRole.USER));
+		ReflectionTestUtils.setField(todo, "id", id);
+		ReflectionTestUtils.setField(todo, "createdAt", createdAt);
+		return todo;
+	}
+
+	@Nested
+	@DisplayName("enrichPendingTodos 메서드는")
+	class EnrichPendingTodosMethod {
+
+		@Test
+		@DisplayName("작성일별로 날씨를 한 번씩 조회해서 PENDING 일정을 배치로 채운다")
+		void should_resolve_weather_per_created_date() {
+			// given
+			LocalDateTime today = LocalDateTime.now();
+			LocalDateTime yesterday = today.minusDays(1);
+			List<Todo> pendingTodos = List.of(pendingTodo(1L, yesterday), pendingTodo(2L, today), pendingTodo(3L, today));
+
+			given(todoRepository.findByWeatherStatusAndIdGreaterThanOrderByIdAsc(eq(WeatherStatus.PENDING), eq(0L), any()))
+				.willReturn(pendingTodos);
+			given(weatherClient.getWeather(yesterday.toLocalDate())).willReturn("Cloudy");
+			given(weatherClient.getWeather(today.toLocalDate())).willReturn("Sunny");
+			given(todoRepository.resolveWeather(List.of(1L), "Cloudy")).willReturn(1);
+			given(todoRepository.resolveWeather(List.of(2L, 3L), "Sunny")).willReturn(2);
+
+			// when
+			todoWeatherEnricher.enrichPendingTodos();
+
+			// then
+			verify(weatherClient, times(2)).getWeather(any(LocalDate.class));
+			verify(todoCache).evictAll(List.of(2L, 3L));
+			assertEquals(3, todoWeatherEnricher.getStatistics().getEnrichedCount());
+		}
+
+		@Test
+		@DisplayName("날씨 조회에 실패하면 PENDING 상태로 남기고 실패 건수를 기록한다")
+		void should_count_failures_when_weather_lookup_fails() {
+			// given
+			List<Todo> pendingTodos = List.of(pendingTodo(1L, LocalDateTime.now()), pendingTodo(2L, LocalDateTime.now()));
+
+			given(todoRepository.findByWeatherStatusAndIdGreaterThanOrderByIdAsc(eq(WeatherStatus.PENDING), eq(0L), any()))
+				.willReturn(pendingTodos);
+			given(weatherClient.getWeather(any())).willThrow(new ServerException("날씨 API 서킷이 열려 있어 데이터를 가져올 수 없습니다."));
+			given(todoRepository.countByWeatherStatus(WeatherStatus.PENDING)).willReturn(2L);
+
+			// when
+			todoWeatherEnricher.enrichPendingTodos();
+
+			// then
+			TodoWeatherEnrichmentResponse statistics = todoWeatherEnricher.getStatistics();
+			verify(todoRepository, never()).resolveWeather(any(), any());
+			assertEquals(2, statistics.getFailureCount());
+			assertEquals(2, statistics.getPendingCount());
+		}
+	}
+}
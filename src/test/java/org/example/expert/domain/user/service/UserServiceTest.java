@@ -0,0 +1,121 @@
+package org.example.expert.domain.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.example.expert.AbstractMockTest;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("UserService 클래스")
+class UserServiceTest extends AbstractMockTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private UserService userService;
+
+	@Nested
+	@DisplayName("changePassword 메서드는")
+	class ChangePasswordMethod {
+
+		@Test
+		@DisplayName("기존 비밀번호를 한 번 검증하고 새 비밀번호를 한 번 해싱한 뒤, 해싱이 끝나고서야 쓰기 트랜잭션을 연다")
+		void should_verify_once_and_hash_once() {
+			// given
+			User user = new User("a@a.com", "stored-hash", UserRole.USER);
+			given(userRepository.findById(1L)).willReturn(Optional.of(user));
+			given(passwordEncoder.matches("OldPassword1", "stored-hash")).willReturn(true);
+			given(passwordEncoder.encode("NewPassword1")).willReturn("new-hash");
+			given(userRepository.updatePasswordIfUnchanged(1L, "stored-hash", "new-hash")).willReturn(1);
+
+			// when
+			userService.changePassword(1L, new UserChangePasswordRequest("OldPassword1", "NewPassword1"));
+
+			// then
+			verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+			verify(passwordEncoder, times(1)).encode(anyString());
+			InOrder inOrder = inOrder(passwordEncoder, transactionManager, userRepository);
+			inOrder.verify(passwordEncoder).encode("NewPassword1");
+			inOrder.verify(transactionManager).getTransaction(any());
+			inOrder.verify(userRepository).updatePasswordIfUnchanged(1L, "stored-hash", "new-hash");
+		}
+
+		@Test
+		@DisplayName("검증한 뒤 다른 요청이 비밀번호를 바꿨으면 덮어쓰지 않고 InvalidRequestException 이 발생한다")
+		void should_not_overwrite_concurrent_change() {
+			// given
+			User user = new User("a@a.com", "stored-hash", UserRole.USER);
+			given(userRepository.findById(1L)).willReturn(Optional.of(user));
+			given(passwordEncoder.matches("OldPassword1", "stored-hash")).willReturn(true);
+			given(passwordEncoder.encode("NewPassword1")).willReturn("new-hash");
+			given(userRepository.updatePasswordIfUnchanged(1L, "stored-hash", "new-hash")).willReturn(0);
+
+			// when & then
+			assertThrows(InvalidRequestException.class,
+				() -> userService.changePassword(1L, new UserChangePasswordRequest("OldPassword1", "NewPassword1")));
+		}
+
+		@Test
+		@DisplayName("새 비밀번호가 기존 비밀번호와 같으면 해시 계산 없이 InvalidRequestException 이 발생한다")
+		void should_reject_same_password_without_hashing() {
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> userService.changePassword(1L, new UserChangePasswordRequest("Password1", "Password1")));
+
+			// then
+			assertEquals("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.", exception.getMessage());
+			verifyNoInteractions(passwordEncoder);
+		}
+
+		@Test
+		@DisplayName("기존 비밀번호가 틀리면 새 비밀번호를 해싱하지 않고 InvalidRequestException 이 발생한다")
+		void should_not_hash_when_old_password_is_wrong() {
+			// given
+			User user = new User("a@a.com", "stored-hash", UserRole.USER);
+			given(userRepository.findById(1L)).willReturn(Optional.of(user));
+			given(passwordEncoder.matches("WrongPassword1", "stored-hash")).willReturn(false);
+
+			// when
+			InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+				() -> userService.changePassword(1L, new UserChangePasswordRequest("WrongPassword1", "NewPassword1")));
+
+			// then
+			assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+			verify(passwordEncoder, never()).encode(anyString());
+		}
+
+		@Test
+		@DisplayName("BCrypt 가 처리할 수 있는 길이를 넘는 새 비밀번호는 InvalidRequestException 이 발생한다")
+		void should_reject_password_longer_than_bcrypt_limit() {
+			// given
+			String tooLong = "A1" + "a".repeat(PasswordEncoder.MAX_PASSWORD_BYTES);
+
+			// when & then
+			assertThrows(InvalidRequestException.class,
+				() -> userService.changePassword(1L, new UserChangePasswordRequest("OldPassword1", tooLong)));
+			verifyNoInteractions(passwordEncoder);
+		}
+	}
+}